@@ -8,4 +8,5 @@ import com.dougnoel.sentinel.configurations.YAMLData;
  * or account data based on the given environment and the account map within that environment.
  */
 public class APIData extends YAMLData {
+	private static final long serialVersionUID = 6853072119384201356L;
 }
\ No newline at end of file
@@ -9,8 +9,8 @@ import java.util.HashMap;
  *
  */
 public class APIFactory {
-	//Track all the APIs we create
-	private static HashMap<String, API> apis = new HashMap<>();	
+	//Track all the APIs we create on each thread, since APIs hold the request being built
+	private static final ThreadLocal<HashMap<String, API>> apis = ThreadLocal.withInitial(HashMap::new);
 	
 	private APIFactory() {
 		// Exists only to defeat instantiation
@@ -26,14 +26,21 @@ public class APIFactory {
 	 */
 	public static API buildOrRetrieveAPI(String apiName) {
 		apiName = apiName.replaceAll("\\s", "");
-		API api = apis.get(apiName);
+		API api = apis.get().get(apiName);
 		if (api != null) {
 			return api;
 		} else {
 			api = new API(apiName);
 		}
-		apis.put(apiName, api);
+		apis.get().put(apiName, api);
 		return api;
 	}
+
+	/**
+	 * Throws away the APIs created on the current thread.
+	 */
+	static void clear() {
+		apis.remove();
+	}
 	
 }
@@ -13,9 +13,9 @@ import java.io.InputStream;
  *
  */
 public class APIManager {
-	//Only one API should be in use at a time. We are consciously not multi-threading.
-	private static API api = null;
-	private static Response response = null;
+	//Only one API should be in use at a time on each thread, so scenarios can run in parallel.
+	private static final ThreadLocal<API> api = new ThreadLocal<>();
+	private static final ThreadLocal<Response> response = new ThreadLocal<>();
 	
 	private APIManager() {
 		// Exists only to defeat instantiation.
@@ -27,10 +27,11 @@ public class APIManager {
 	 */
 	public static void setAPI(String apiName) {
 		try {
-			api = APIFactory.buildOrRetrieveAPI(apiName);
-			TestManager.setActiveTestObject(api);
+			var newAPI = APIFactory.buildOrRetrieveAPI(apiName);
+			api.set(newAPI);
+			TestManager.setActiveTestObject(newAPI);
 		} catch (NullPointerException npe) {
-			api = null;
+			api.remove();
 		}
 	}
 	
@@ -39,9 +40,10 @@ public class APIManager {
 	 * @return API Currently selected API by the tester.
 	 */
 	public static API getAPI() {
-		if (api == null)
+		var currentAPI = api.get();
+		if (currentAPI == null)
 			throw new NotFoundException("API not set yet. It must be created to before it can be used.");
-		return APIManager.api;
+		return currentAPI;
 	}
 	
 	/**
@@ -97,7 +99,7 @@ public class APIManager {
 	 * @return Response the response
 	 */
 	public static Response getResponse() {
-		return response;
+		return response.get();
 	}
 
 	/**
@@ -105,6 +107,16 @@ public class APIManager {
 	 * @param response Response the response
 	 */
 	public static void setResponse(Response response) {
-		APIManager.response = response;
+		APIManager.response.set(response);
+	}
+
+	/**
+	 * Forgets the current API, its last response and every API created on the current thread, so that the
+	 * next scenario run on the thread starts without them.
+	 */
+	public static void clear() {
+		api.remove();
+		response.remove();
+		APIFactory.clear();
 	}
 }
\ No newline at end of file
@@ -34,7 +34,7 @@ public class TableAssert {
     public static void assertTrue(String message, Table table, Callable<Boolean> booleanCallable) throws Exception {
         if(Boolean.TRUE.equals(booleanCallable.call()))
             return; //continue test
-        table.reset();
+        table.refresh();
         Assert.assertTrue(message, booleanCallable.call());
     }
 
@@ -58,7 +58,7 @@ public class TableAssert {
     public static void assertFalse(String message, Table table, Callable<Boolean> booleanCallable) throws Exception {
         if(Boolean.FALSE.equals(booleanCallable.call()))
             return; //continue test
-        table.reset();
+        table.refresh();
         Assert.assertFalse(message, booleanCallable.call());
     }
 
@@ -75,7 +75,7 @@ public class TableAssert {
             Assert.assertEquals(expected, objectCallable.call());
         }
         catch(AssertionError ae){
-            table.reset();
+            table.refresh();
             var actualResult = objectCallable.call();
             Assert.assertEquals(SentinelStringUtils.format("{} Found {}", message, actualResult), expected, actualResult);
         }
@@ -105,7 +105,7 @@ public class TableAssert {
             Assert.assertNotEquals(notExpected, objectCallable.call());
         }
         catch(AssertionError ae){
-            table.reset();
+            table.refresh();
             var actualResult = objectCallable.call();
             Assert.assertNotEquals(SentinelStringUtils.format("{} Found {}", message, actualResult), notExpected, actualResult);
         }
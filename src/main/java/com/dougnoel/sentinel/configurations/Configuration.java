@@ -1,18 +1,26 @@
 package com.dougnoel.sentinel.configurations;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NoSuchElementException;
+
 import com.dougnoel.sentinel.enums.PageObjectType;
 import com.dougnoel.sentinel.exceptions.FileException;
 import com.dougnoel.sentinel.pages.PageData;
 import com.dougnoel.sentinel.pages.PageManager;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
+import com.dougnoel.sentinel.system.FileIndex;
 import com.dougnoel.sentinel.system.FileManager;
 import com.dougnoel.sentinel.system.TestManager;
 import com.dougnoel.sentinel.system.YAMLObject;
@@ -32,11 +40,14 @@ public class Configuration {
 
 	private static final Map<String,PageData> PAGE_DATA = new ConcurrentHashMap<>();
 	private static final Map<String,YAMLData> YAML_DATA = new ConcurrentHashMap<>();
+	private static final Map<String,Map<String,Map<String,String>>> PAGE_ELEMENTS = new ConcurrentHashMap<>();
 	
+	// A top level section that only page and API objects have, used to skip other yml files when preloading.
+	private static final Pattern OBJECT_SECTION = Pattern.compile("^(?:urls|executables|elements):");
 	private static final String ENV_REPLACE_STRING = "{env}";
 	private static final String ENV = "env";
 
-	private static final Properties appProps = new Properties();
+	private static final AtomicReference<ConfigurationSnapshot> appProps = new AtomicReference<>(ConfigurationSnapshot.EMPTY);
 	
 	private static ConfigurationData sentinelConfigurations = null;
 	
@@ -97,10 +108,11 @@ public class Configuration {
 	 * @return String the value of the requested configuration property (null if nothing is found)
 	 */
 	public static String toString(String property) {
-		String propertyValue = appProps.getProperty(property);
-		
-		if(propertyValue == null)
-			propertyValue = System.getProperty(property);
+		var storedValue = appProps.get().get(property);
+		if(storedValue != null)
+			return storedValue.text();
+
+		String propertyValue = System.getProperty(property);
 
 		if(propertyValue == null) {
 			try {
@@ -117,10 +129,25 @@ public class Configuration {
 		}
 
 		if(propertyValue != null)
-			appProps.setProperty(property, propertyValue);
+			update(property, propertyValue);
 		return propertyValue;
 	}
 	
+	/**
+	 * Returns the stored value for a given property, searching for and storing the value the first time
+	 * it is requested, so that typed lookups can use the value already parsed when it was stored.
+	 * 
+	 * @see Configuration#toString(String)
+	 * @param property String the requested configuration property
+	 * @return ConfigurationSnapshot.Value the stored value, or null if nothing is found
+	 */
+	private static ConfigurationSnapshot.Value storedValue(String property) {
+		var value = appProps.get().get(property);
+		if (value == null && toString(property) != null)
+			value = appProps.get().get(property);
+		return value;
+	}
+	
 	/**
 	 * Returns the configuration for a given property as a String value. It has the following precedence
 	 * for searching for a value:
@@ -139,7 +166,7 @@ public class Configuration {
 	public static String toString(String property, String defaultValue) {
 		String propertyValue = toString(property);
 		if (propertyValue == null) {
-			appProps.setProperty(property, defaultValue);
+			update(property, defaultValue);
 			String warningMessage = SentinelStringUtils.format("{} being used by default for configuration property {}. {}",
 						defaultValue, property, Configuration.configurationNotFoundErrorMessage(property));
 			log.warn(warningMessage);
@@ -157,30 +184,30 @@ public class Configuration {
 	 * @param value String the value to be used
 	 */
 	public static void update(String property, String value) {
-		appProps.setProperty(property, value);
+		appProps.updateAndGet(snapshot -> snapshot.with(property, value));
 	}
 
 	/**
-	 * Returns a Set&lt;String&gt; containing all property (key) names in the Configuration's stored Properties (appProps) that start with the given prefix.
+	 * Returns a Set&lt;String&gt; containing all property (key) names in the Configuration's stored snapshot (appProps) that start with the given prefix.
 	 * Case-sensitive.
-	 * The Properties object that this method searches (appProps) does not always include every configuration variable.
-	 * Entries are only added to the Properties if/when they are read from other sources, or when entries are added during the course of a test.
+	 * The snapshot that this method searches (appProps) does not always include every configuration variable.
+	 * Entries are only added to the snapshot if/when they are read from other sources, or when entries are added during the course of a test.
 	 * As a result, the set returned by this method actually contains all configuration entries that start with the given prefix
-	 * and have been read or updated since the start of the test, or the last reset of the session appProps (Properties).
-	 * @param prefix String the prefix to filter properties by. Any entry in the Properties that starts with the given prefix (or exactly matches it) will be returned in the Set.
-	 * @return Set&lt;String&gt; containing all property (key) names in the Configuration's stored Properties that start with the given prefix.
+	 * and have been read or updated since the start of the test, or the last reset of the session appProps.
+	 * @param prefix String the prefix to filter properties by. Any entry in the snapshot that starts with the given prefix (or exactly matches it) will be returned in the Set.
+	 * @return Set&lt;String&gt; containing all property (key) names in the Configuration's stored snapshot that start with the given prefix.
 	 */
 	public static Set<String> getAllPropertiesWithPrefix(String prefix) {
-		return appProps.stringPropertyNames().stream().filter(property -> property.startsWith(prefix)).collect(Collectors.toSet());
+		return appProps.get().propertyNames().stream().filter(property -> property.startsWith(prefix)).collect(Collectors.toSet());
 	}
 
 	/**
-	 * Returns the number of properties in the Configuration's stored Properties (appProps) that start with the given prefix.
+	 * Returns the number of properties in the Configuration's stored snapshot (appProps) that start with the given prefix.
 	 * Case-sensitive.
-	 * The Properties object that this method searches (appProps) does not always include every configuration variable.
-	 * Entries are only added to the Properties if/when they are read from other sources, or when entries are added during the course of a test.
+	 * The snapshot that this method searches (appProps) does not always include every configuration variable.
+	 * Entries are only added to the snapshot if/when they are read from other sources, or when entries are added during the course of a test.
 	 * As a result, the number returned by this method actually counts all configuration entries that start with the given prefix
-	 * and have been read or updated since the start of the test, or the last reset of the session appProps (Properties).
+	 * and have been read or updated since the start of the test, or the last reset of the session appProps.
 	 * @param prefix String the prefix to filter properties by. Any entry in appProps that starts with the given prefix (or exactly matches it) will be counted.
 	 * @return long the number of properties that start with the given prefix.
 	 */
@@ -195,13 +222,13 @@ public class Configuration {
 	 * @param property String the property to clear
 	 */
 	public static void clear(String property) {
-		appProps.remove(property);
+		appProps.updateAndGet(snapshot -> snapshot.without(property));
 	}
 
 	/**
 	 * Clears all configuration values that have been set since runtime started.
 	 */
-	public static void clearAllSessionAppProps() { appProps.clear(); }
+	public static void clearAllSessionAppProps() { appProps.set(ConfigurationSnapshot.EMPTY); }
 	
 	/**
 	 * Returns the given configuration value stored in the passed property as a Double, or 0.0 if nothing is
@@ -211,12 +238,8 @@ public class Configuration {
 	 * @return Double the requested value as a Double or 0.0 if nothing valid is found
 	 */
 	public static Double toDouble(String property) {
-		try {
-			return Double.valueOf(toString(property));
-		} catch (Exception e) {
-			log.trace(e.getMessage(),Arrays.toString(e.getStackTrace()));
-			return 0.0;
-		}
+		var value = storedValue(property);
+		return value == null ? 0.0 : value.toDouble();
 	}
 
 	/**
@@ -227,19 +250,8 @@ public class Configuration {
 	 * @return boolean the requested value as a boolean or false if nothing valid is found
 	 */
 	public static boolean toBoolean(String property) {
-		String prop = toString(property);
-		if(prop != null) {
-			switch(prop.toLowerCase()) {
-				case "true":
-				case "":
-					return true;
-				default:
-					return false;
-			}
-		}
-		else {
-			return false;
-		}
+		var value = storedValue(property);
+		return value != null && value.toBoolean();
 	}
 
 	/**
@@ -261,12 +273,8 @@ public class Configuration {
 	 * @return Double the requested value as a Double or 0.0 if nothing valid is found
 	 */
 	public static Long toLong(String property) {
-		try {
-			return Long.valueOf(toString(property));
-		} catch (Exception e) {
-			log.trace(e.getMessage(),Arrays.toString(e.getStackTrace()));
-			return 0L;
-		}
+		var value = storedValue(property);
+		return value == null ? 0L : value.toLong();
 	}
 
 	/**
@@ -358,7 +366,7 @@ public class Configuration {
 		String yamlName = yamlObject.getName();
 		switch (yamlObject.getType()) {
 		case PAGE:
-			return PAGE_DATA.computeIfAbsent(yamlName, Configuration::loadPageData);
+			return getOrCreatePageData(yamlName);
 		case API:
 		case UNKNOWN:
 		default:
@@ -366,6 +374,68 @@ public class Configuration {
 		}
 	}
 	
+	/**
+	 * Returns the page data for the given page name, loading it from disk the first time it is requested.
+	 * 
+	 * @param pageName String the name of the page for which the data is retrieved
+	 * @return PageData the data from the configuration file
+	 */
+	private static PageData getOrCreatePageData(String pageName) {
+		return PAGE_DATA.computeIfAbsent(pageName, Configuration::loadPageData);
+	}
+	
+	/**
+	 * Loads every page and API object in the src directory in parallel on the common fork-join pool, so that
+	 * steps do not have to wait for files to be found and parsed and any malformed objects are reported before
+	 * the first scenario runs. Only yml files with a top level urls, executables or elements section are loaded,
+	 * so other yml files such as test fixtures are skipped. Page objects are stored in the page data cache.
+	 * Objects without an elements section may be API objects, so they are also stored in the API data cache.
+	 * <p>
+	 * Each object that cannot be loaded is logged as an error along with the reason and left out of the caches,
+	 * so it will fail again with the same error if a test uses it. Call this from a runner before tests start,
+	 * e.g. when the preloadPageObjects property is set to true.
+	 * 
+	 * @return int the number of objects that could not be loaded
+	 */
+	public static int preloadYAMLData() {
+		long startTime = System.currentTimeMillis();
+		List<String> yamlNames = FileIndex.findAllWithExtension(".yml").parallelStream()
+				.filter(Configuration::isPageOrAPIObject)
+				.map(file -> StringUtils.removeEnd(file.getName(), ".yml"))
+				.collect(Collectors.toList());
+		Set<String> failures = ConcurrentHashMap.newKeySet();
+
+		yamlNames.parallelStream().forEach(yamlName -> {
+			try {
+				if (getOrCreatePageData(yamlName).elements == null)
+					YAML_DATA.computeIfAbsent(yamlName, Configuration::loadYAMLData);
+			} catch (RuntimeException e) {
+				log.error("Unable to preload the {} page or API object. Error: {}", yamlName, e.getMessage());
+				failures.add(yamlName);
+			}
+		});
+
+		log.info("Preloaded {} of {} page and API objects in {} ms.", yamlNames.size() - failures.size(), yamlNames.size(), System.currentTimeMillis() - startTime);
+		if (!failures.isEmpty())
+			log.error("The following page and API objects could not be loaded: {}", failures);
+		return failures.size();
+	}
+
+	/**
+	 * Returns true if the yml file has a top level section that page and API objects have, without parsing it.
+	 * 
+	 * @param file File the yml file to check
+	 * @return boolean true if the file looks like a page or API object
+	 */
+	private static boolean isPageOrAPIObject(File file) {
+		try (var lines = Files.lines(file.toPath())) {
+			return lines.anyMatch(line -> OBJECT_SECTION.matcher(line).lookingAt());
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Unable to read {} while looking for page and API objects to preload. Error: {}", file, e.getMessage());
+			return false;
+		}
+	}
+	
 	/**
 	 * Returns the type of page object. Most will be WEBPAGE, but if an "executables:"
 	 * section is defined instead of a "urls:" section, this will return EXECUTABLE as the type.
@@ -376,7 +446,7 @@ public class Configuration {
 	 * @return PageObjectType the type of page object either WEBPAGE or EXECUTABLE
 	 */
 	public static PageObjectType getPageObjectType(String pageName) {
-		var pageData = loadPageData(pageName);
+		var pageData = getOrCreatePageData(pageName);
 		if (pageData.hasUrls())
 			return PageObjectType.WEBPAGE;
 		if (pageData.hasExecutables())
@@ -429,7 +499,7 @@ public class Configuration {
 	 */
 	protected static String executable(String pageName) {
 		String executablePath = null;
-		var pageData = loadPageData(pageName);
+		var pageData = getOrCreatePageData(pageName);
 		String env = Configuration.environment();
 
 		if (pageData.containsExecutable(env)) {
@@ -458,7 +528,7 @@ public class Configuration {
 	public static String accountInformation(String account, String key) {
 		String pageName = TestManager.getActiveTestObject().getName();
 		String env = environment();
-		var pageData = loadPageData(pageName);
+		var pageData = getOrCreatePageData(pageName);
 		Map <String,String> accountData = pageData.getAccount(env, account);
 		if (Objects.equals(accountData, null)) {
 			env = DEFAULT;
@@ -482,7 +552,69 @@ public class Configuration {
 	 * @return the element and all of its locators
 	 */
 	public static Map <String,String> getElement(String elementName, String pageName) {
-		return PAGE_DATA.computeIfAbsent(pageName, Configuration::loadPageData).getElement(elementName);
+		return getOrCreatePageData(pageName).getElement(elementName);
+	}
+	
+	/**
+	 * Returns an element defined in the given page object or in any of the page objects it includes. The first
+	 * definition found is used, searching the page itself first and then each include in the order listed,
+	 * including the includes of each included page.
+	 * 
+	 * @see Configuration#getOrCreateElementIndex(String)
+	 * @param elementName the element to search for in the page object and its includes
+	 * @param pageName the name of the page object to search
+	 * @return the element and all of its locators, or null if it is not defined
+	 */
+	public static Map <String,String> findElement(String elementName, String pageName) {
+		return getOrCreateElementIndex(pageName).get(elementName);
+	}
+	
+	/**
+	 * Returns every element that can be used on the given page, built the first time the page is requested by
+	 * merging the elements of the page with the elements of every page object it includes. Each page object
+	 * is only merged once, so pages that include each other are logged and ignored rather than followed forever.
+	 * 
+	 * @param pageName the name of the page object
+	 * @return Map&lt;String, Map&lt;String, String&gt;&gt; an unmodifiable map of element names to locators
+	 */
+	private static Map<String,Map<String,String>> getOrCreateElementIndex(String pageName) {
+		return PAGE_ELEMENTS.computeIfAbsent(pageName, name -> {
+			if (getOrCreatePageData(name).elements == null) {
+				var errorMessage = SentinelStringUtils.format("There is no elements section defined in the page object {}. Please make sure that elements defined are under an \"elements:\" section. Refer to the Readme for more information.", name);
+				throw new NoSuchElementException(errorMessage);
+			}
+			Map<String,Map<String,String>> elementIndex = new HashMap<>();
+			addElements(name, elementIndex, new HashSet<>(), new ArrayDeque<>());
+			return Collections.unmodifiableMap(elementIndex);
+		});
+	}
+	
+	/**
+	 * Adds the elements of the given page object, followed by the elements of each page object it includes,
+	 * to the element index. Elements already in the index are not replaced.
+	 * 
+	 * @param pageName the name of the page object to add
+	 * @param elementIndex Map&lt;String, Map&lt;String, String&gt;&gt; the index being built
+	 * @param pagesAdded Set&lt;String&gt; the page objects already added to the index
+	 * @param includeChain Deque&lt;String&gt; the page objects being added that led to this one
+	 */
+	private static void addElements(String pageName, Map<String,Map<String,String>> elementIndex, Set<String> pagesAdded, Deque<String> includeChain) {
+		if (includeChain.contains(pageName)) {
+			log.warn("{}.yml is included in a loop: {} -> {}. The include will be ignored.", pageName, String.join(" -> ", includeChain), pageName);
+			return;
+		}
+		if (!pagesAdded.add(pageName))
+			return;
+
+		includeChain.addLast(pageName);
+		var pageData = getOrCreatePageData(pageName);
+		if (pageData.elements != null)
+			pageData.elements.forEach(elementIndex::putIfAbsent);
+		for (String includedPage : pageData.getPageParts()) {
+			if (StringUtils.isNotBlank(includedPage))
+				addElements(includedPage.trim(), elementIndex, pagesAdded, includeChain);
+		}
+		includeChain.removeLast();
 	}
 	
 	/**
@@ -574,7 +706,7 @@ public class Configuration {
 	 * @return String[] the pages found that are part of this page
 	 */
 	public static String[] getPageParts(String pageName) {
-		return PAGE_DATA.computeIfAbsent(pageName, Configuration::loadPageData).getPageParts();
+		return getOrCreatePageData(pageName).getPageParts();
 	}
 	
 	/**
@@ -600,7 +732,7 @@ public class Configuration {
 		browser = Configuration.toString(BROWSER);
 		if (browser == null) {
 			browser = "chrome";
-			appProps.setProperty(BROWSER, browser);
+			update(BROWSER, browser);
 			String infoMessage = "Chrome browser being used by default. " + 
 					Configuration.configurationNotFoundErrorMessage(BROWSER);
 			log.info(infoMessage);
@@ -609,7 +741,7 @@ public class Configuration {
 			browser = browser.replaceAll("\\s+", "").toLowerCase();
         if (browser.equals("ie")) {
             browser = "internetexplorer";
-            appProps.setProperty(BROWSER, browser);
+            update(BROWSER, browser);
         }
         return browser;
     }
@@ -622,7 +754,7 @@ public class Configuration {
     	var operatingSystem = Configuration.toString("os");
     	if (operatingSystem == null) {
     		operatingSystem = detectOperatingSystem();
-    		appProps.setProperty("os", operatingSystem);
+    		update("os", operatingSystem);
     	}
         
         return operatingSystem;
@@ -0,0 +1,139 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * An immutable set of the configuration values that have been read or set since runtime started. Changing a value
+ * creates a new snapshot, so a snapshot can be read from any thread without locking. Each value is parsed into a
+ * number and a boolean when it is stored so that typed lookups do not parse the same text again.
+ */
+final class ConfigurationSnapshot {
+	static final ConfigurationSnapshot EMPTY = new ConfigurationSnapshot(Collections.emptyMap());
+
+	private final Map<String, Value> values;
+
+	private ConfigurationSnapshot(Map<String, Value> values) {
+		this.values = values;
+	}
+
+	/**
+	 * Returns the value stored for the given property.
+	 *
+	 * @param property String the property name
+	 * @return Value the stored value, or null if nothing is stored for the property
+	 */
+	Value get(String property) {
+		return values.get(property);
+	}
+
+	/**
+	 * Returns a copy of this snapshot with the given property set to the given value.
+	 *
+	 * @param property String the property name
+	 * @param value String the value to store
+	 * @return ConfigurationSnapshot the new snapshot
+	 */
+	ConfigurationSnapshot with(String property, String value) {
+		Objects.requireNonNull(property);
+		Objects.requireNonNull(value);
+		Map<String, Value> copy = new HashMap<>(values);
+		copy.put(property, new Value(value));
+		return new ConfigurationSnapshot(Collections.unmodifiableMap(copy));
+	}
+
+	/**
+	 * Returns a copy of this snapshot without the given property, or this snapshot if the property is not stored.
+	 *
+	 * @param property String the property name
+	 * @return ConfigurationSnapshot the new snapshot
+	 */
+	ConfigurationSnapshot without(String property) {
+		if (!values.containsKey(property))
+			return this;
+		Map<String, Value> copy = new HashMap<>(values);
+		copy.remove(property);
+		return new ConfigurationSnapshot(Collections.unmodifiableMap(copy));
+	}
+
+	/**
+	 * Returns the names of every property stored in this snapshot.
+	 *
+	 * @return Set&lt;String&gt; an unmodifiable set of property names
+	 */
+	Set<String> propertyNames() {
+		return values.keySet();
+	}
+
+	/**
+	 * A configuration value along with its numeric and boolean forms.
+	 */
+	static final class Value {
+		private final String text;
+		private final Long longValue;
+		private final Double doubleValue;
+		private final boolean booleanValue;
+
+		private Value(String text) {
+			this.text = text;
+			longValue = parseLong(text);
+			doubleValue = parseDouble(text);
+			booleanValue = text.isEmpty() || "true".equalsIgnoreCase(text);
+		}
+
+		/**
+		 * Returns the value as it was set.
+		 *
+		 * @return String the value
+		 */
+		String text() {
+			return text;
+		}
+
+		/**
+		 * Returns the value as a Long, or 0 if it is not a whole number.
+		 *
+		 * @return Long the value as a Long
+		 */
+		Long toLong() {
+			return longValue;
+		}
+
+		/**
+		 * Returns the value as a Double, or 0.0 if it is not a number.
+		 *
+		 * @return Double the value as a Double
+		 */
+		Double toDouble() {
+			return doubleValue;
+		}
+
+		/**
+		 * Returns true if the value is "true", ignoring case, or empty (e.g. a switch passed as -Dproperty).
+		 *
+		 * @return boolean the value as a boolean
+		 */
+		boolean toBoolean() {
+			return booleanValue;
+		}
+
+		private static Long parseLong(String text) {
+			try {
+				return Long.valueOf(text);
+			} catch (NumberFormatException e) {
+				return 0L;
+			}
+		}
+
+		private static Double parseDouble(String text) {
+			try {
+				return Double.valueOf(text);
+			} catch (NumberFormatException e) {
+				return 0.0;
+			}
+		}
+	}
+}
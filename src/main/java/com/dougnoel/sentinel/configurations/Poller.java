@@ -0,0 +1,134 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Paces a retry loop so that it does not spin against the driver while waiting for something to happen.
+ * The first poll happens immediately. Each poll after that waits before returning, starting at
+ * Time.interval() and growing by a backoff factor up to a maximum wait, with a little random jitter so
+ * that parallel threads do not poll in lock step. Use it in place of a loop that checks the clock:
+ * <pre>
+ * var poller = Poller.start();
+ * while (poller.poll()) {
+ *     if (tryTheThing())
+ *         return;
+ * }
+ * </pre>
+ * The backoff can be changed in the sentinel.yml config file or on the command line with the switches
+ * '-DpollBackoffFactor=' (default 2), '-DpollMaxInterval=' in milliseconds (default 100) and
+ * '-DpollJitter=' as a fraction of each wait (default 0.1).
+ */
+public class Poller {
+	private static final Logger log = LogManager.getLogger(Poller.class);
+	private static final double DEFAULT_BACKOFF_FACTOR = 2.0;
+	private static final double DEFAULT_JITTER = 0.1;
+
+	private final Duration timeout;
+	private final long startTime;
+	private final long deadline;
+	private final double backoffFactor;
+	private final long maxInterval;
+	private final double jitter;
+	private long nextInterval;
+	private int polls = 0;
+
+	private Poller(Duration timeout) {
+		this.timeout = timeout;
+		startTime = System.nanoTime();
+		deadline = startTime + timeout.toNanos();
+
+		double configuredFactor = Configuration.toDouble("pollBackoffFactor");
+		backoffFactor = configuredFactor >= 1.0 ? configuredFactor : DEFAULT_BACKOFF_FACTOR;
+		long configuredMax = Configuration.toLong("pollMaxInterval");
+		maxInterval = configuredMax > 0 ? configuredMax : Time.loopInterval().toMillis();
+		double configuredJitter = Configuration.toDouble("pollJitter");
+		jitter = configuredJitter > 0.0 && configuredJitter < 1.0 ? configuredJitter : DEFAULT_JITTER;
+		nextInterval = Math.min(Time.interval().toMillis(), maxInterval);
+	}
+
+	/**
+	 * Starts polling with the configured timeout.
+	 *
+	 * @return Poller a new poller
+	 */
+	public static Poller start() {
+		return new Poller(Time.out());
+	}
+
+	/**
+	 * Starts polling with the given timeout.
+	 *
+	 * @param timeout Duration how long to keep polling
+	 * @return Poller a new poller
+	 */
+	public static Poller start(Duration timeout) {
+		return new Poller(timeout);
+	}
+
+	/**
+	 * Waits until it is time for the next attempt and returns true, or returns false if the timeout has been
+	 * reached. The first call returns without waiting. A wait is never longer than the time left.
+	 *
+	 * @return boolean true if another attempt should be made, false if the timeout has been reached
+	 */
+	public boolean poll() {
+		if (polls > 0 && !waitForNextPoll())
+			return false;
+		if (System.nanoTime() - deadline >= 0) {
+			log.debug("Gave up after {}.", this);
+			return false;
+		}
+		polls++;
+		return true;
+	}
+
+	/**
+	 * Sleeps for the current backoff interval plus or minus the jitter, then grows the interval for next time.
+	 *
+	 * @return boolean false if the thread was interrupted while waiting
+	 */
+	private boolean waitForNextPoll() {
+		long remaining = (deadline - System.nanoTime() + 999_999) / 1_000_000; // Round up so the last wait reaches the deadline.
+		long spread = (long) (nextInterval * jitter);
+		long sleepTime = nextInterval + (spread > 0 ? ThreadLocalRandom.current().nextLong(-spread, spread + 1) : 0);
+		nextInterval = Math.min((long) Math.ceil(nextInterval * backoffFactor), maxInterval);
+		try {
+			Thread.sleep(Math.max(0, Math.min(sleepTime, remaining)));
+			return true;
+		} catch (InterruptedException e) {
+			log.warn(e.getMessage());
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the number of attempts that have been allowed so far.
+	 *
+	 * @return int the number of polls
+	 */
+	public int getPolls() {
+		return polls;
+	}
+
+	/**
+	 * Returns the time since polling started.
+	 *
+	 * @return Duration the elapsed time
+	 */
+	public Duration elapsed() {
+		return Duration.ofNanos(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Returns the number of polls and the elapsed time for logging, e.g. "3 polls in 45 ms of 10000 ms".
+	 */
+	@Override
+	public String toString() {
+		return polls + " polls in " + elapsed().toMillis() + " ms of " + timeout.toMillis() + " ms";
+	}
+}
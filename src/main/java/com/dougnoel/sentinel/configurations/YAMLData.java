@@ -2,6 +2,7 @@ package com.dougnoel.sentinel.configurations;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -18,7 +19,11 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
  * @author dougnoel
  *
  */
-public class YAMLData {
+public class YAMLData implements Serializable {
+	private static final long serialVersionUID = 3265361457981012718L;
+	protected static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory())
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
 	public String name;
 	public Map<String,String> urls;
 	public Map<String,Map<String,Map<String,String>>> accounts;
@@ -38,25 +43,33 @@ public class YAMLData {
 	}
 	
 	/**
-	 * Returns the usable YAMLData object from the given File object.
+	 * Returns the usable YAMLData object from the given File object. Files that have been loaded before are read
+	 * from the YAMLDataCache instead of being parsed again.
 	 * 
+	 * @see YAMLDataCache#load(File, Class, java.util.function.Function)
 	 * @param fileName File the File object to which the configurations will be mapped.
 	 * @return YAMLData the configured APIData  
 	 * @throws IOException if the configuration file cannot be opened or read
 	 */
 	public static YAMLData loadYaml(File fileName) throws IOException{
-		ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
-				.configure(DeserializationFeature
-				.FAIL_ON_UNKNOWN_PROPERTIES, false);
-		YAMLData pageData = null;
+		YAMLData yamlData = YAMLDataCache.load(fileName, APIData.class, YAMLData::parseYaml);
+		if (yamlData != null)
+			yamlData.name = StringUtils.substring(fileName.toString(), 0, -4);
+		return yamlData;
+	}
+
+	/**
+	 * Parses the given File into an APIData object.
+	 * 
+	 * @param fileName File the File object to which the configurations will be mapped.
+	 * @return APIData the configured APIData
+	 */
+	private static APIData parseYaml(File fileName) {
 		try {
-			pageData = mapper.readValue(fileName, APIData.class);
-			pageData.name = StringUtils.substring(fileName.toString(), 0, -4);
+			return YAML_MAPPER.readValue(fileName, APIData.class);
 		} catch (Exception e) {
 			throw new FileException(e, fileName);
 		}
-			
-		return pageData;
 	}
     
 	/**
@@ -0,0 +1,177 @@
+package com.dougnoel.sentinel.configurations;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Stores parsed page and API objects on disk in Java's binary serialization format so that other JVMs do not
+ * need to parse the same YAML again. Each entry is keyed by the SHA-256 hash of the YAML file's contents, so an
+ * edited file is parsed again the next time it is loaded and never read from a stale entry. The key also holds a
+ * hash of the fields of the class the file is parsed into, so entries written by a version of Sentinel whose
+ * page or API objects had other fields are never read.
+ * <p>
+ * Entries are stored in target/sentinel-cache. The cache can be turned off by setting the yamlCache property
+ * to false in the sentinel.yml config file or on the command line with the switch '-DyamlCache=false'.
+ */
+public class YAMLDataCache {
+	private static final Logger log = LogManager.getLogger(YAMLDataCache.class);
+	private static final Path CACHE_DIRECTORY = Paths.get("target", "sentinel-cache");
+	private static final Map<Class<?>, String> classShapes = new ConcurrentHashMap<>();
+	private static final ObjectInputFilter CACHE_FILTER = ObjectInputFilter.Config.createFilter(
+			"com.dougnoel.sentinel.**;java.util.*;java.lang.*;!*");
+
+	private YAMLDataCache() {} //Exists to defeat instantiation.
+
+	/**
+	 * Returns the data stored in the given YAML file, reading it from the cache if the file has not changed
+	 * since it was cached, and otherwise parsing it with the given parser and caching the result.
+	 * Any problem reading or writing the cache is logged and the file is parsed as if there were no cache.
+	 *
+	 * @param <T> the type of data stored in the file
+	 * @param yamlFile File the YAML file to load
+	 * @param type Class&lt;T&gt; the type of data stored in the file
+	 * @param parser Function&lt;File, T&gt; parses the YAML file when it is not in the cache
+	 * @return T the data in the file, or null if the file contains no data
+	 */
+	public static <T extends YAMLData> T load(File yamlFile, Class<T> type, Function<File, T> parser) {
+		if (!isEnabled())
+			return parser.apply(yamlFile);
+
+		Path cacheFile;
+		try {
+			cacheFile = getCacheFile(yamlFile, type);
+		} catch (IOException e) {
+			log.debug("Unable to hash {} for the YAML cache. Error: {}", yamlFile, e.getMessage());
+			return parser.apply(yamlFile);
+		}
+
+		T data = read(cacheFile, type);
+		if (data != null) {
+			log.trace("{} loaded from the YAML cache {}", yamlFile, cacheFile);
+			return data;
+		}
+
+		data = parser.apply(yamlFile);
+		if (data != null)
+			write(cacheFile, data);
+		return data;
+	}
+
+	/**
+	 * Removes the cache entry for the current contents of the given file, so that the file is parsed again the
+	 * next time it is loaded. Any problem removing the entry is logged.
+	 *
+	 * @param yamlFile File the YAML file
+	 * @param type Class&lt;? extends YAMLData&gt; the type the file is parsed into
+	 */
+	public static void clear(File yamlFile, Class<? extends YAMLData> type) {
+		try {
+			Files.deleteIfExists(getCacheFile(yamlFile, type));
+		} catch (IOException e) {
+			log.debug("Unable to remove the YAML cache entry for {}. Error: {}", yamlFile, e.getMessage());
+		}
+	}
+
+	/**
+	 * Returns true unless the cache has been turned off with the yamlCache property.
+	 *
+	 * @return boolean true if the cache should be used
+	 */
+	private static boolean isEnabled() {
+		return !"false".equalsIgnoreCase(Configuration.toString("yamlCache"));
+	}
+
+	/**
+	 * Returns the path of the cache entry for the current contents of the given file.
+	 *
+	 * @param yamlFile File the YAML file
+	 * @param type Class&lt;?&gt; the type the file is parsed into, since one file can be loaded as more than one type
+	 * @return Path the path of the cache entry
+	 * @throws IOException if the YAML file cannot be read
+	 */
+	private static Path getCacheFile(File yamlFile, Class<?> type) throws IOException {
+		String hash = Hashing.sha256().hashBytes(Files.readAllBytes(yamlFile.toPath())).toString();
+		return CACHE_DIRECTORY.resolve(type.getSimpleName() + "-" + getClassShape(type) + "-" + hash + ".bin");
+	}
+
+	/**
+	 * Returns a hash of the names and types of the serialized fields of the given class and each of its
+	 * superclasses. Adding, removing, renaming or retyping any of those fields changes the hash.
+	 *
+	 * @param type Class&lt;?&gt; the class the data is stored as
+	 * @return String the hash of the fields of the class
+	 */
+	static String getClassShape(Class<?> type) {
+		return classShapes.computeIfAbsent(type, key -> {
+			var shape = new StringBuilder();
+			for (Class<?> current = key; current != null && current != Object.class; current = current.getSuperclass()) {
+				shape.append('{');
+				Arrays.stream(current.getDeclaredFields())
+					.filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()))
+					.map(field -> field.getName() + ':' + field.getGenericType().getTypeName())
+					.sorted()
+					.forEach(field -> shape.append(field).append(';'));
+				shape.append('}');
+			}
+			return Hashing.sha256().hashString(shape, StandardCharsets.UTF_8).toString().substring(0, 16);
+		});
+	}
+
+	/**
+	 * Reads a cache entry.
+	 *
+	 * @param <T> the type of data stored in the entry
+	 * @param cacheFile Path the cache entry to read
+	 * @param type Class&lt;T&gt; the type of data stored in the entry
+	 * @return T the cached data, or null if there is no usable entry
+	 */
+	private static <T> T read(Path cacheFile, Class<T> type) {
+		if (!Files.isRegularFile(cacheFile))
+			return null;
+		try (var input = new ObjectInputStream(Files.newInputStream(cacheFile))) {
+			input.setObjectInputFilter(CACHE_FILTER);
+			return type.cast(input.readObject());
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			log.debug("Ignoring unreadable YAML cache entry {}. Error: {}", cacheFile, e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a cache entry. The entry is written to a temporary file first and then moved into place so that
+	 * other JVMs never read a partially written entry.
+	 *
+	 * @param cacheFile Path the cache entry to write
+	 * @param data YAMLData the data to store
+	 */
+	private static void write(Path cacheFile, YAMLData data) {
+		try {
+			Files.createDirectories(CACHE_DIRECTORY);
+			Path temporaryFile = Files.createTempFile(CACHE_DIRECTORY, "entry", ".tmp");
+			try (var output = new ObjectOutputStream(Files.newOutputStream(temporaryFile))) {
+				output.writeObject(data);
+			}
+			Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.debug("Unable to write YAML cache entry {}. Error: {}", cacheFile, e.getMessage());
+		}
+	}
+}
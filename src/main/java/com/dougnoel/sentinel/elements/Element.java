@@ -7,9 +7,15 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.imageio.ImageIO;
 
@@ -24,7 +30,10 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.configurations.Poller;
 import com.dougnoel.sentinel.configurations.Time;
+import com.dougnoel.sentinel.enums.ClickStrategy;
 import com.dougnoel.sentinel.enums.SelectorType;
 import com.dougnoel.sentinel.pages.PageManager;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
@@ -56,18 +65,44 @@ import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
  * <li>Remove the need to pass in a driver class instance for the creation of
  * every element and delay that binding to a singleton class that can be
  * changed, allowing the use of multiple drivers through a testing session.</li>
- * <li>Look into creating a Selenium WebElement member variable to store the
- * element after the first time it is used. This could increase the speed of
- * calling objects that get called often.</li>
  * </ul>
  */
 public class Element {
 	protected static final Logger log = LogManager.getLogger(Element.class.getName()); // Create a logger.
+	private static final By IFRAME_LOCATOR = By.xpath("//iframe");
+	private static final String WAIT_FOR_CHANGE_SCRIPT = "src/main/resources/scripts/WaitForChange.js";
+	private static final long DEFAULT_SCRIPT_TIMEOUT = 30000; // The W3C default, in milliseconds.
+	private static final String VISIBLE = "visible";
+	private static final String TEXT_PRESENT = "textPresent";
+	private static final String TEXT_ABSENT = "textAbsent";
+	private static final String FIND_ELEMENT_SCRIPT = "src/main/resources/scripts/FindElement.js";
+	private static final String ELEMENT_STATE_SCRIPT = "src/main/resources/scripts/ElementState.js";
+	private static final String FILL_FORM_SCRIPT = "src/main/resources/scripts/FillForm.js";
+	private static String waitForChangeScript = null;
+	private static String findElementScript = null;
+	private static String elementStateScript = null;
+	private static String fillFormScript = null;
+	private static final Map<ClickStrategy, LongAdder> clickAttempts = createClickCounters();
+	private static final Map<ClickStrategy, LongAdder> clickSuccesses = createClickCounters();
+	// The click strategy that last worked for each page, used when clickStrategyMemory is set to page.
+	private static final Map<String, ClickStrategy> pageClickStrategies = new ConcurrentHashMap<>();
 
 	protected Map<SelectorType,String> selectors;
+	// The index of each iFrame, from the top of the page down, that the element was last found in.
+	private List<Integer> lastFramePath = null;
+	// The iFrames element() found the element in, or null if it was in the frame the driver was already using.
+	private List<Integer> foundFramePath = null;
+	// The Selenium WebElement found the last time, reused when the element cache is turned on.
+	private WebElement cachedElement = null;
+	private int cachedPageChangeCount = -1;
 	protected String name;
 	protected final String elementType;
-	private WebDriver driver() { return Driver.getWebDriver(); }
+	protected boolean observerWaitsSupported = true;
+	protected boolean scriptLookupSupported = true;
+	protected boolean stateScriptSupported = true;
+	// The click strategy that last worked for this element.
+	private ClickStrategy clickStrategy = null;
+	protected WebDriver driver() { return Driver.getWebDriver(); }
 
 	/**
 	 * The constructor for a WebElement to initialize how an element is going to be
@@ -97,6 +132,13 @@ public class Element {
 		name = elementName;
 	}
 	
+	private static Map<ClickStrategy, LongAdder> createClickCounters() {
+		Map<ClickStrategy, LongAdder> counters = new EnumMap<>(ClickStrategy.class);
+		for (ClickStrategy strategy : ClickStrategy.values())
+			counters.put(strategy, new LongAdder());
+		return counters;
+	}
+
 	/**
 	 * Returns the name of the element as it is stored in the yaml file.
 	 * @return String the name of the element
@@ -165,25 +207,86 @@ public class Element {
 	 * @return org.openqa.selenium.WebElement the Selenium WebElement object type that can be acted upon
 	 */
 	protected WebElement element() {
-		WebElement element = null;
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); //fetch starting time
-		while((System.currentTimeMillis() - startTime) < searchTime) {
+		WebElement element = getCachedElement();
+		foundFramePath = null;
+		if (element != null)
+			return element;
+		var poller = Poller.start();
+		while(poller.poll()) {
 			element = findElementInCurrentFrame();
-	    	if (element != null) {
-	    		return element;
-	    	}
-			driver().switchTo().defaultContent();
-	    	element = findElementInIFrame();
-	    	if (element != null) {
-	    		return element;
-	    	}	
-        }
+			foundFramePath = null;
+			if (element == null) {
+				driver().switchTo().defaultContent();
+				element = findElementInLastFramePath();
+				if (element == null)
+					element = findElementInIFrame();
+				foundFramePath = lastFramePath;
+			}
+			if (element != null) {
+				log.trace("{} element named \"{}\" found after {}.", elementType, getName(), poller);
+				cacheElement(element);
+				return element;
+			}
+		}
 		var errorMessage = SentinelStringUtils.format("{} element named \"{}\" does not exist or is not visible using the following values: {}. Assure you are on the page you think you are on, and that the element identifier you are using is correct.",
 				elementType, getName(), selectors);
 		throw new NoSuchElementException(errorMessage);
 	}
 	
+	/**
+	 * Returns true if the Selenium WebElement should be kept and reused until it goes stale. The element cache
+	 * is off by default and can be turned on by setting the elementCache property to true in the sentinel.yml
+	 * config file or on the command line with the switch '-DelementCache=true'.
+	 * 
+	 * @return boolean true if found elements should be reused, false otherwise
+	 */
+	protected boolean isElementCacheEnabled() {
+		return Configuration.toBoolean("elementCache");
+	}
+
+	/**
+	 * Returns the WebElement found the last time if the cache is on, the page and window have not changed
+	 * since then, and the WebElement is still attached to the page in the frame the driver is using.
+	 * 
+	 * @return WebElement the cached element, or null if it has to be looked up again
+	 */
+	private WebElement getCachedElement() {
+		if (cachedElement == null || !isElementCacheEnabled())
+			return null;
+		if (cachedPageChangeCount == Driver.getPageChangeCount()) {
+			try {
+				cachedElement.isEnabled(); // Throws if the element is stale or in another frame.
+				return cachedElement;
+			} catch (WebDriverException e) {
+				log.trace("Cached {} element named \"{}\" is no longer valid. Looking it up again.", elementType, getName());
+			}
+		}
+		invalidate();
+		return null;
+	}
+
+	/**
+	 * Keeps the WebElement that was just found if the cache is on.
+	 * 
+	 * @param element WebElement the element that was found
+	 */
+	private void cacheElement(WebElement element) {
+		if (!isElementCacheEnabled())
+			return;
+		cachedElement = element;
+		cachedPageChangeCount = Driver.getPageChangeCount();
+	}
+
+	/**
+	 * Throws away the cached WebElement so that the element is looked up again the next time it is used.
+	 * Call this when the page changes in a way that Sentinel cannot see, e.g. an element is replaced
+	 * with one that has the same selectors.
+	 */
+	public void invalidate() {
+		cachedElement = null;
+		cachedPageChangeCount = -1;
+	}
+
 	/**
 	 * Returns a Selenium WebElement using the current element as the beginning search point
 	 * for the passed By locator.
@@ -211,54 +314,219 @@ public class Element {
 	 * Searches recursively through any iFrames on the page for the element. Returns
 	 * null if the element is not found, or if there are no iFrames on the page. This
 	 * method traverses through iFrames but returns to the default root context upon
-	 * returning.
+	 * returning. The iFrames the element is found in are remembered so that the next
+	 * search can start there.
 	 * 
 	 * @return WebElement the element if it is found, otherwise null
 	 */
 	protected WebElement findElementInIFrame() {
-    	if (PageManager.getPage().hasIFrames()) {
-    		WebElement element = null;
-    		List <WebElement> iframes = PageManager.getPage().getIFrames();
-    		try {
-    			for (WebElement iframe : iframes) {
-        			driver().switchTo().frame(iframe);
-        			element = findElementInCurrentFrame();
-        			if (element != null) {
-        				return element;
-        			}
-            	    element = findElementInIFrame();
-        			if (element != null)
-        				return element;
-        			driver().switchTo().parentFrame();
-        		}
-    		}
-    		catch(StaleElementReferenceException | NoSuchFrameException | InvalidArgumentException | NoSuchWindowException e) {
-    			var errorMessage = SentinelStringUtils.format("Error when searching for {} element named \"{}\" while attempting to search through iFrames. Looping again. Error: {}",
-    					elementType, getName(), e);
-    			log.trace(errorMessage);
-    			return null;
-    		}
-    	}
-    	return null;
+		WebElement element = findElementInIFrame(new ArrayList<>());
+		if (element == null)
+			driver().switchTo().defaultContent();
+		return element;
+	}
+
+	/**
+	 * Searches recursively through the iFrames in the current frame for the element.
+	 * 
+	 * @param framePath List&lt;Integer&gt; the index of each iFrame that has been switched into to reach the current frame
+	 * @return WebElement the element if it is found, otherwise null
+	 */
+	private WebElement findElementInIFrame(List<Integer> framePath) {
+		try {
+			List <WebElement> iframes = driver().findElements(IFRAME_LOCATOR);
+			for (int i = 0; i < iframes.size(); i++) {
+				driver().switchTo().frame(iframes.get(i));
+				framePath.add(i);
+				WebElement element = null;
+				try {
+					element = findElementInCurrentFrame();
+					if (element != null) {
+						lastFramePath = List.copyOf(framePath);
+						return element;
+					}
+					element = findElementInIFrame(framePath);
+					if (element != null)
+						return element;
+				} finally {
+					// Leave this frame whether the search failed or threw, so the caller keeps searching from its own frame.
+					if (element == null) {
+						framePath.remove(framePath.size() - 1);
+						driver().switchTo().parentFrame();
+					}
+				}
+			}
+		}
+		catch(StaleElementReferenceException | NoSuchFrameException | InvalidArgumentException | NoSuchWindowException e) {
+			var errorMessage = SentinelStringUtils.format("Error when searching for {} element named \"{}\" while attempting to search through iFrames. Looping again. Error: {}",
+					elementType, getName(), e);
+			log.trace(errorMessage);
+		}
+		return null;
+	}
+
+	/**
+	 * Switches into the iFrames the element was last found in and searches for it there. Returns null and
+	 * switches back to the default content if the element has not been found in an iFrame before, or is
+	 * no longer in the same iFrame.
+	 * 
+	 * @return WebElement the element if it is found, otherwise null
+	 */
+	private WebElement findElementInLastFramePath() {
+		if (lastFramePath == null)
+			return null;
+		try {
+			if (switchToFramePath(lastFramePath)) {
+				WebElement element = findElementInCurrentFrame();
+				if (element != null)
+					return element;
+			}
+		}
+		catch(StaleElementReferenceException | NoSuchFrameException | InvalidArgumentException | NoSuchWindowException e) {
+			log.trace("Error when searching for {} element named \"{}\" in the iFrame it was last found in. Error: {}", elementType, getName(), e);
+		}
+		driver().switchTo().defaultContent();
+		return null;
+	}
+
+	/**
+	 * Switches from the top of the page into the iFrames at the given indexes, one inside the other.
+	 * 
+	 * @param framePath List&lt;Integer&gt; the index of each iFrame to switch into, from the top of the page down
+	 * @return boolean true if every iFrame was found, false if the driver stopped at a frame that does not have the next one
+	 */
+	private boolean switchToFramePath(List<Integer> framePath) {
+		driver().switchTo().defaultContent();
+		for (int frameIndex : framePath) {
+			List <WebElement> iframes = driver().findElements(IFRAME_LOCATOR);
+			if (frameIndex >= iframes.size())
+				return false;
+			driver().switchTo().frame(iframes.get(frameIndex));
+		}
+		return true;
 	}
 
 	/**
 	 * Searches for the current element within the current frame context. Searches each selector.
+	 * When there is more than one selector they are all tried in a single script call if the driver allows it.
 	 *
 	 * @return WebElement the element if it is found, otherwise null
 	 */
 	protected WebElement findElementInCurrentFrame() {
 		WebElement element;
-		for (Map.Entry<SelectorType, String> selector : selectors.entrySet()) {
+		List<Map.Entry<SelectorType, String>> orderedSelectors = orderSelectors();
+		if (orderedSelectors.size() > 1 && isScriptLookupEnabled()) {
+			Map<String, Object> result = findElementWithScript(orderedSelectors);
+			if (result != null) {
+				element = (WebElement) result.get("element");
+				if (element != null)
+					recordSelectorHit(orderedSelectors, ((Number) result.get("index")).intValue());
+				return element;
+			}
+		}
+		for (int i = 0; i < orderedSelectors.size(); i++) {
+			var selector = orderedSelectors.get(i);
 			log.trace("Attempting to find {} {} with {}: {}", elementType, getName(), selector.getKey(), selector.getValue());
 			element = getElement(createByLocator(selector.getKey(), selector.getValue()));
 			if (element != null) {
+				recordSelectorHit(orderedSelectors, i);
 				return element;
 			}
 		}
 		return null;
 	}
 
+	/**
+	 * Returns the selectors in the order they should be tried. This is the order of the SelectorType enum
+	 * unless selector statistics are turned on, in which case the selector that has found the element most
+	 * often is tried first.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.SelectorStatistics
+	 * @return List&lt;Map.Entry&lt;SelectorType, String&gt;&gt; the selectors in the order to try them
+	 */
+	private List<Map.Entry<SelectorType, String>> orderSelectors() {
+		if (!SelectorStatistics.isEnabled())
+			return new ArrayList<>(selectors.entrySet());
+		return SelectorStatistics.order(PageManager.getPage().getName(), getName(), selectors);
+	}
+
+	/**
+	 * Records which selector found the element when selector statistics are turned on.
+	 * 
+	 * @param orderedSelectors List&lt;Map.Entry&lt;SelectorType, String&gt;&gt; the selectors in the order they were tried
+	 * @param winningIndex int the index of the selector that found the element
+	 */
+	private void recordSelectorHit(List<Map.Entry<SelectorType, String>> orderedSelectors, int winningIndex) {
+		if (!SelectorStatistics.isEnabled())
+			return;
+		List<SelectorType> tried = new ArrayList<>(orderedSelectors.size());
+		orderedSelectors.forEach(selector -> tried.add(selector.getKey()));
+		SelectorStatistics.record(PageManager.getPage().getName(), getName(), tried, winningIndex);
+	}
+
+	/**
+	 * Returns true if all of the element's selectors should be tried in a single injected script. Script lookup
+	 * is on by default and can be turned off by setting the scriptLookup property to false in the sentinel.yml
+	 * config file or on the command line with the switch '-DscriptLookup=false'. It is also turned off for this
+	 * element if the driver cannot execute the script.
+	 * 
+	 * @return boolean true if script lookup should be used, false otherwise
+	 */
+	protected boolean isScriptLookupEnabled() {
+		return scriptLookupSupported && !"false".equalsIgnoreCase(Configuration.toString("scriptLookup"));
+	}
+
+	/**
+	 * Tries every selector in the current frame in one round trip to the driver, in the same order that
+	 * findElementInCurrentFrame() would try them one at a time.
+	 * 
+	 * @param orderedSelectors List&lt;Map.Entry&lt;SelectorType, String&gt;&gt; the selectors in the order to try them
+	 * @return Map&lt;String, Object&gt; the element found (or null) under "element" and the index of the winning
+	 *         selector under "index", or null if the selectors need to be tried with the driver instead
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, Object> findElementWithScript(List<Map.Entry<SelectorType, String>> orderedSelectors) {
+		List<String> types = new ArrayList<>(orderedSelectors.size());
+		List<String> values = new ArrayList<>(orderedSelectors.size());
+		orderedSelectors.forEach(selector -> {
+			types.add(selector.getKey().name());
+			values.add(selector.getValue());
+		});
+
+		Map<String, Object> result;
+		try {
+			result = (Map<String, Object>) ((JavascriptExecutor) driver()).executeScript(getFindElementScript(), types, values);
+		} catch (TimeoutException | StaleElementReferenceException | InvalidArgumentException | NoSuchWindowException e) {
+			return Map.of();
+		} catch (IOException | ClassCastException | UnsupportedCommandException e) {
+			log.debug("Unable to find the {} element with a script, trying each selector instead. Error: {}", getName(), e.getMessage());
+			scriptLookupSupported = false;
+			return null;
+		} catch (WebDriverException e) {
+			log.trace("Finding the {} element with a script failed, trying each selector instead. Error: {}", getName(), e.getMessage());
+			return null;
+		}
+
+		if (result == null || Boolean.TRUE.equals(result.get("fallback")))
+			return null;
+		var index = ((Number) result.get("index")).intValue();
+		if (index >= 0)
+			log.trace("Found {} {} with {}: {}", elementType, getName(), types.get(index), values.get(index));
+		return result;
+	}
+
+	/**
+	 * Returns the script used to try every selector in one call, loading it the first time it is needed.
+	 * 
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getFindElementScript() throws IOException {
+		if (findElementScript == null)
+			findElementScript = FileManager.loadJavascript(FIND_ELEMENT_SCRIPT);
+		return findElementScript;
+	}
+
 	/**
 	 * Sends a constructed collection of absolute paths of a given file locator string list to an element for use with file upload elements.
 	 * Supports both single and multiple file sending for input elements.
@@ -306,10 +574,8 @@ public class Element {
 	 * @return Element (for chaining)
 	 */
 	public Element sendKeys(String text) {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); //fetch starting time
-		
-		while((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while(poller.poll()) {
 			if (sendKeysLoop(text))
 				return this;
 		}
@@ -327,6 +593,102 @@ public class Element {
 		throw new ElementNotVisibleException(errorMessage);
 	}
 	
+	/**
+	 * Enters text into several elements at once. Every element is found first, each starting from the top of the
+	 * page, and the elements are grouped by the iFrame they are in. The text boxes and text areas in each frame
+	 * are then filled by a single script that fires the input and change events a user would, and the values are
+	 * checked with one more call, so a form inside one frame takes two calls however many fields it has. Any
+	 * element the script cannot fill, or that does not end up with the expected value, is filled with sendKeys()
+	 * instead, as are elements whose type has its own sendKeys().
+	 * <p>
+	 * To fill every element with sendKeys(), set the formFill property to native in the sentinel.yml config file
+	 * or on the command line with the switch '-DformFill=native'.
+	 * 
+	 * @param values Map&lt;Element, String&gt; each element mapped to the text to enter into it
+	 */
+	public static void fill(Map<Element, String> values) {
+		Map<Element, String> remaining = new LinkedHashMap<>();
+		Map<List<Integer>, Map<Element, WebElement>> fieldsByFrame = new LinkedHashMap<>();
+		boolean useScript = !"native".equalsIgnoreCase(Configuration.toString("formFill"));
+		values.forEach((element, text) -> {
+			if (useScript && !overridesSendKeys(element)) {
+				element.driver().switchTo().defaultContent();
+				WebElement field = element.element();
+				var framePath = element.foundFramePath == null ? List.<Integer>of() : element.foundFramePath;
+				fieldsByFrame.computeIfAbsent(framePath, path -> new LinkedHashMap<>()).put(element, field);
+			}
+			else
+				remaining.put(element, text);
+		});
+
+		fieldsByFrame.forEach((framePath, fields) -> fillInFrame(framePath, fields, values, remaining));
+		remaining.forEach(Element::sendKeys);
+	}
+
+	/**
+	 * Fills the given fields, which are all in the same frame, with one script. Each field that is not filled is
+	 * added to the fields still to be filled.
+	 * 
+	 * @param framePath List&lt;Integer&gt; the index of each iFrame the fields are in, from the top of the page down
+	 * @param fields Map&lt;Element, WebElement&gt; each element mapped to the WebElement found for it
+	 * @param values Map&lt;Element, String&gt; each element mapped to the text to enter into it
+	 * @param remaining Map&lt;Element, String&gt; the fields still to be filled with sendKeys()
+	 */
+	@SuppressWarnings("unchecked")
+	private static void fillInFrame(List<Integer> framePath, Map<Element, WebElement> fields, Map<Element, String> values, Map<Element, String> remaining) {
+		List<Element> scripted = new ArrayList<>(fields.keySet());
+		List<WebElement> webElements = new ArrayList<>(fields.values());
+		List<String> texts = new ArrayList<>(scripted.size());
+		scripted.forEach(element -> texts.add(values.get(element)));
+		var firstElement = scripted.get(0);
+		try {
+			if (!firstElement.switchToFramePath(framePath))
+				throw new NoSuchFrameException("The iFrame at " + framePath + " is no longer on the page.");
+			var executor = (JavascriptExecutor) firstElement.driver();
+			var filled = (List<Object>) executor.executeScript(getFillFormScript(), webElements, texts);
+			var actualValues = (List<Object>) executor.executeScript("return arguments[0].map(function (field) { return field.value; });", webElements);
+			int filledCount = 0;
+			for (int i = 0; i < scripted.size(); i++) {
+				if (Boolean.TRUE.equals(filled.get(i)) && texts.get(i).equals(actualValues.get(i)))
+					filledCount++;
+				else
+					remaining.put(scripted.get(i), texts.get(i));
+			}
+			log.trace("Filled {} of {} fields in the frame {} with one script.", filledCount, scripted.size(), framePath);
+		} catch (IOException | ClassCastException | WebDriverException e) {
+			log.debug("Unable to fill the fields in the frame {} with a script, entering text into each one instead. Error: {}", framePath, e.getMessage());
+			for (int i = 0; i < scripted.size(); i++)
+				remaining.put(scripted.get(i), texts.get(i));
+		}
+	}
+
+	/**
+	 * Returns true if the type of the given element replaces sendKeys(String) with its own, in which case it
+	 * must be used to enter text into the element.
+	 * 
+	 * @param element Element the element to check
+	 * @return boolean true if the element's class overrides sendKeys(String)
+	 */
+	private static boolean overridesSendKeys(Element element) {
+		try {
+			return element.getClass().getMethod("sendKeys", String.class).getDeclaringClass() != Element.class;
+		} catch (NoSuchMethodException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the script used to fill several fields in one call, loading it the first time it is needed.
+	 * 
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getFillFormScript() throws IOException {
+		if (fillFormScript == null)
+			fillFormScript = FileManager.loadJavascript(FILL_FORM_SCRIPT);
+		return fillFormScript;
+	}
+
 	/**
 	 * Sends a unicode character to the element directly. Does not clear element before sending. Does not perform any checks to confirm that the element received the key.
 	 * For use with special characters, such as BACKSPACE.
@@ -385,10 +747,8 @@ public class Element {
 	 * @return Element (for chaining)
 	 */
 	public Element click() {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); //fetch starting time
-		
-		while((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while(poller.poll()) {
 			if (clickLoop())
 				return this;
 		}
@@ -412,33 +772,150 @@ public class Element {
 	}
 
 	/**
-	 * Loops through all the ways to click an element.
+	 * Loops through all the ways to click an element. The strategy that last worked is tried first, and is
+	 * forgotten if it stops working.
 	 * 
+	 * @see com.dougnoel.sentinel.elements.Element#getRememberedClickStrategy()
 	 * @return boolean true if the element was clicked, false otherwise
 	 */
 	private boolean clickLoop() {
 		WebElement element = element();
+		ClickStrategy remembered = getRememberedClickStrategy();
+		for (ClickStrategy strategy : clickOrder(remembered)) {
+			if (click(element, strategy)) {
+				if (strategy != remembered)
+					rememberClickStrategy(strategy);
+				return true;
+			}
+			if (strategy == remembered) {
+				log.trace("The {} click no longer works for the {} element. Trying every click strategy.", remembered, getName());
+				rememberClickStrategy(null);
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the order to try the click strategies in: the remembered strategy first, then the rest in the
+	 * order they are declared.
+	 * 
+	 * @param remembered ClickStrategy the strategy that last worked, or null
+	 * @return List&lt;ClickStrategy&gt; every strategy, in the order to try them
+	 */
+	static List<ClickStrategy> clickOrder(ClickStrategy remembered) {
+		List<ClickStrategy> order = new ArrayList<>(List.of(ClickStrategy.values()));
+		if (remembered != null) {
+			order.remove(remembered);
+			order.add(0, remembered);
+		}
+		return order;
+	}
+
+	/**
+	 * Tries to click the element with one strategy, counting the attempt in the click strategy statistics.
+	 * 
+	 * @param element WebElement the element to click
+	 * @param strategy ClickStrategy the way to click it
+	 * @return boolean true if the element was clicked, false otherwise
+	 */
+	private boolean click(WebElement element, ClickStrategy strategy) {
+		boolean clicked = false;
 		try {
-			constructElementWait(Time.loopInterval())
-				.until(ExpectedConditions.elementToBeClickable(element))
-				.click();
-			return true;
-		} catch (WebDriverException e) {
-			try{
+			switch (strategy) {
+			case HOVER:
 				hover();
-				constructElementWait(Time.loopInterval())
-					.until(ExpectedConditions.elementToBeClickable(element))
-					.click();
-				return true;
-			} catch(WebDriverException e1){
+				nativeClick(element);
+				clicked = true;
+				break;
+			case NATIVE:
+				nativeClick(element);
+				clicked = true;
+				break;
+			case JAVASCRIPT:
 				if (element.isEnabled()) {
-					JavascriptExecutor executor = (JavascriptExecutor) driver();
-					executor.executeScript("arguments[0].click();", element);
-					return true;
+					((JavascriptExecutor) driver()).executeScript("arguments[0].click();", element);
+					clicked = true;
 				}
+				break;
 			}
+		} catch (WebDriverException e) {
+			log.trace("{} click of the {} element failed. Error: {}", strategy, getName(), e.getMessage());
+		}
+		clickAttempts.get(strategy).increment();
+		if (clicked)
+			clickSuccesses.get(strategy).increment();
+		return clicked;
+	}
+
+	/**
+	 * Clicks the element with WebDriver once it is clickable.
+	 * 
+	 * @param element WebElement the element to click
+	 */
+	private void nativeClick(WebElement element) {
+		constructElementWait(Time.loopInterval())
+			.until(ExpectedConditions.elementToBeClickable(element))
+			.click();
+	}
+
+	/**
+	 * Returns the click strategy to try first for this element. By default each element remembers the strategy
+	 * that last clicked it. Set the clickStrategyMemory property in the sentinel.yml config file or on the command
+	 * line to 'page' (e.g. '-DclickStrategyMemory=page') to share one strategy between all the elements on a page,
+	 * or to 'none' to always try the strategies in order. A javascript click is never remembered.
+	 * 
+	 * @return ClickStrategy the strategy to try first, or null if none is remembered
+	 */
+	protected ClickStrategy getRememberedClickStrategy() {
+		switch (getClickStrategyMemory()) {
+		case "none":
+			return null;
+		case "page":
+			return pageClickStrategies.get(PageManager.getPage().getName());
+		default:
+			return clickStrategy;
 		}
-		return false;
+	}
+
+	/**
+	 * Remembers the click strategy to try first next time, or forgets it if null is passed. A javascript click
+	 * is forgotten instead of remembered. It works whenever the element is enabled, even if something covers the
+	 * element, so once remembered it would never stop working and a real click would never be tried again.
+	 * 
+	 * @param strategy ClickStrategy the strategy that worked, or null
+	 */
+	void rememberClickStrategy(ClickStrategy strategy) {
+		if (strategy == ClickStrategy.JAVASCRIPT)
+			strategy = null;
+		switch (getClickStrategyMemory()) {
+		case "none":
+			break;
+		case "page":
+			if (strategy == null)
+				pageClickStrategies.remove(PageManager.getPage().getName());
+			else
+				pageClickStrategies.put(PageManager.getPage().getName(), strategy);
+			break;
+		default:
+			clickStrategy = strategy;
+		}
+	}
+
+	private static String getClickStrategyMemory() {
+		return Configuration.toString("clickStrategyMemory", "element").toLowerCase();
+	}
+
+	/**
+	 * Returns the number of times each click strategy has been tried and has worked since the tests started,
+	 * across all elements. Use it to see which strategies an application needs.
+	 * 
+	 * @return Map&lt;ClickStrategy, String&gt; each strategy mapped to its successes and attempts, e.g. "12/15"
+	 */
+	public static Map<ClickStrategy, String> getClickStrategyStatistics() {
+		Map<ClickStrategy, String> statistics = new EnumMap<>(ClickStrategy.class);
+		for (ClickStrategy strategy : ClickStrategy.values())
+			statistics.put(strategy, clickSuccesses.get(strategy).sum() + "/" + clickAttempts.get(strategy).sum());
+		return statistics;
 	}
 
 	/**
@@ -497,12 +974,30 @@ public class Element {
 	 * <p>
 	 * NOTE: Use isInvisible() for the fastest processing time if you expect
 	 * the element to be hidden/invisible.
+	 * <p>
+	 * The browser is asked to report when the element becomes visible, and the driver
+	 * is polled instead if it cannot.
 	 * 
 	 * @return boolean true if the element is displayed; false if it is hidden.
 	 */
 	public boolean isDisplayed() {
+		long start = System.nanoTime();
+		WebElement element = element();
+		Boolean observed = waitInBrowser(element, VISIBLE, null);
+		if (observed != null) {
+			try {
+				boolean displayed = element.isDisplayed();
+				if (displayed || !observed)
+					return displayed;
+			} catch (StaleElementReferenceException e) {
+				return false;
+			}
+		}
+
+		// Only wait for whatever time the browser did not already use.
+		long remainingSeconds = Math.max(0, Time.out().minusNanos(System.nanoTime() - start).toSeconds());
 		try {
-			return new WebDriverWait(driver(), Time.out().toSeconds(), Time.interval().toMillis())
+			return new WebDriverWait(driver(), remainingSeconds, Time.interval().toMillis())
 				.ignoring(StaleElementReferenceException.class)
 				.until(ExpectedConditions.visibilityOf(element())).isDisplayed();
 		}
@@ -635,9 +1130,8 @@ public class Element {
 	 * @return boolean true if the element cannot be found, false if it is found
 	 */
 	protected boolean doesNotExist(boolean hasIframes) {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); // fetch starting time
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while (poller.poll()) {
 			if(hasIframes)
 				driver().switchTo().defaultContent();
 			WebElement element = findElementInCurrentFrame();
@@ -654,10 +1148,9 @@ public class Element {
 				return true;
 			} catch(InvalidArgumentException | NoSuchWindowException e){
 				log.trace("Unable to determine existence of element. Retrying.");
-				return doesNotExist(hasIframes);
 			}
 		}
-		log.trace("doesNotExist() return result: false");
+		log.trace("doesNotExist() return result: false after {}", poller);
 		return false;
 	}
 
@@ -670,7 +1163,9 @@ public class Element {
 	}
 	
 	/**
-	 * Waits until the text contains a certain value, and returns if it was found
+	 * Waits until the text contains a certain value, and returns if it was found.
+	 * The browser is asked to report when the text changes, and the driver is polled
+	 * instead if it cannot.
 	 * 
 	 * @return Boolean If the text value was found in the element.
 	 */
@@ -683,10 +1178,15 @@ public class Element {
 		if (!present)
 			condition = ExpectedConditions.not(condition);
 
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); // fetch starting time
+		var poller = Poller.start(); // Shared with the fallback below so the two waits together never exceed the timeout.
+		Boolean observed = waitInBrowser(element(), present ? TEXT_PRESENT : TEXT_ABSENT, text);
+		if (observed != null) {
+			boolean met = Boolean.TRUE.equals(condition.apply(driver()));
+			if (met || !observed)
+				return met;
+		}
 
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		while (poller.poll()) {
 			try {
 				return new WebDriverWait(driver(), Time.interval().toMillis(), Time.loopInterval().toMillis())
 						.ignoring(StaleElementReferenceException.class)
@@ -699,6 +1199,83 @@ public class Element {
 		return false;
 	}
 
+	/**
+	 * Waits in the browser for a condition on the given element to be met. A MutationObserver is installed in
+	 * the page and a single asynchronous script call returns as soon as the condition is met, instead of the
+	 * driver being asked again and again. The result is a hint: callers confirm it with one Selenium check.
+	 * <p>
+	 * Observer waits are on by default and can be turned off by setting the observerWaits property to false in
+	 * the sentinel.yml config file or on the command line with the switch '-DobserverWaits=false'. They are also
+	 * turned off for this element if the driver cannot run asynchronous scripts (e.g. Windows applications).
+	 * Any other error, such as the page navigating away while the script runs, only falls back to polling this time.
+	 * 
+	 * @param element WebElement the element to watch
+	 * @param condition String the condition to wait for: visible, textPresent or textAbsent
+	 * @param text String the text for the text conditions, or null
+	 * @return Boolean true if the condition was met, false if it timed out, or null if the wait could not be run
+	 */
+	private Boolean waitInBrowser(WebElement element, String condition, String text) {
+		if (!observerWaitsSupported || "false".equalsIgnoreCase(Configuration.toString("observerWaits")))
+			return null;
+		long previousScriptTimeout = getScriptTimeout();
+		try {
+			long timeout = Time.out().toMillis();
+			driver().manage().timeouts().setScriptTimeout(timeout + 1000, TimeUnit.MILLISECONDS); // Leave the browser time to call back.
+			try {
+				Object result = ((JavascriptExecutor) driver()).executeAsyncScript(getWaitForChangeScript(),
+						element, condition, text, timeout, Time.loopInterval().toMillis());
+				log.trace("{} element named \"{}\" {} wait in the browser returned {}.", elementType, getName(), condition, result);
+				return Boolean.TRUE.equals(result);
+			} finally {
+				driver().manage().timeouts().setScriptTimeout(previousScriptTimeout, TimeUnit.MILLISECONDS);
+			}
+		} catch (ScriptTimeoutException e) {
+			return false;
+		} catch (StaleElementReferenceException e) {
+			return null;
+		} catch (IOException | ClassCastException | UnsupportedCommandException e) {
+			log.debug("Unable to wait in the browser for the {} element, polling instead. Error: {}", getName(), e.getMessage());
+			observerWaitsSupported = false;
+			return null;
+		} catch (WebDriverException e) {
+			log.trace("Waiting in the browser for the {} element failed, polling instead. Error: {}", getName(), e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the script timeout the driver session was created with, or the W3C default of 30 seconds if the
+	 * driver does not report it. Selenium has no way to read the current script timeout, and nothing else in
+	 * Sentinel changes it, so this is the value to put back after waiting in the browser.
+	 * 
+	 * @return long the script timeout in milliseconds
+	 */
+	private long getScriptTimeout() {
+		try {
+			Object timeouts = ((HasCapabilities) driver()).getCapabilities().getCapability("timeouts");
+			if (timeouts instanceof Map) {
+				Object scriptTimeout = ((Map<?, ?>) timeouts).get("script");
+				if (scriptTimeout instanceof Number)
+					return ((Number) scriptTimeout).longValue();
+			}
+		} catch (ClassCastException | WebDriverException e) {
+			log.trace("Unable to read the script timeout of the driver. Using the default. Error: {}", e.getMessage());
+		}
+		return DEFAULT_SCRIPT_TIMEOUT;
+	}
+
+	/**
+	 * Returns the script used to wait in the browser, loading it the first time it is needed.
+	 * 
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getWaitForChangeScript() throws IOException {
+		if (waitForChangeScript == null)
+			waitForChangeScript = FileManager.loadJavascript(WAIT_FOR_CHANGE_SCRIPT);
+		return waitForChangeScript;
+	}
+
 	/**
 	 * Returns true if the attribute exists for the element; otherwise returns false.
 	 * Expects the attribute to exist, and if it does not, this method will check every 
@@ -952,6 +1529,48 @@ public class Element {
 		return element().getLocation();
 	}
 
+	/**
+	 * Returns the text, value, given attributes, displayed, enabled, read only and selected state, position and
+	 * background color of the element, read in a single script call. Unlike isDisplayed() and the other state
+	 * checks, the snapshot does not wait for the state to change. If the driver cannot run the script, each
+	 * value is read with its own call.
+	 * 
+	 * @param attributes String... the names of any attributes to include in the snapshot
+	 * @return ElementSnapshot the state of the element
+	 */
+	@SuppressWarnings("unchecked")
+	public ElementSnapshot snapshot(String... attributes) {
+		WebElement element = element();
+		if (stateScriptSupported) {
+			try {
+				return ElementSnapshot.fromScriptResult((Map<String, Object>) ((JavascriptExecutor) driver())
+						.executeScript(getElementStateScript(), element, List.of(attributes)));
+			} catch (IOException | ClassCastException | UnsupportedCommandException e) {
+				log.debug("Unable to read the state of the {} element with a script, reading each value instead. Error: {}", getName(), e.getMessage());
+				stateScriptSupported = false;
+			}
+		}
+
+		Map<String, String> attributeValues = new HashMap<>();
+		for (String attribute : attributes)
+			attributeValues.put(attribute, element.getAttribute(attribute));
+		return new ElementSnapshot(element.getText(), element.getAttribute("value"), attributeValues,
+				element.isDisplayed(), element.isEnabled(), element.getAttribute("readonly") != null, element.isSelected(),
+				new Rectangle(element.getLocation(), element.getSize()), getBackgroundColor(element));
+	}
+
+	/**
+	 * Returns the script used to read the state of an element in one call, loading it the first time it is needed.
+	 * 
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getElementStateScript() throws IOException {
+		if (elementStateScript == null)
+			elementStateScript = FileManager.loadJavascript(ELEMENT_STATE_SCRIPT);
+		return elementStateScript;
+	}
+
 	/**
 	 * Returns the first stored selector for this element.
 	 *
@@ -1,37 +1,75 @@
 package com.dougnoel.sentinel.elements;
 
 import java.io.File;
-import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.elements.dropdowns.Dropdown;
+import com.dougnoel.sentinel.elements.dropdowns.MaterialUISelect;
+import com.dougnoel.sentinel.elements.dropdowns.PrimeNGDropdown;
+import com.dougnoel.sentinel.elements.dropdowns.SelectElement;
+import com.dougnoel.sentinel.elements.tables.NGXDataTable;
+import com.dougnoel.sentinel.elements.tables.Table;
 import com.dougnoel.sentinel.enums.PageObjectType;
 import com.dougnoel.sentinel.exceptions.FileException;
 import com.dougnoel.sentinel.pages.Page;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
 import com.dougnoel.sentinel.system.FileManager;
-import com.google.common.reflect.ClassPath;
-import com.google.common.reflect.ClassPath.ClassInfo;
 
 import org.openqa.selenium.NoSuchElementException;
 
 /**
  * An implementation of the Factory design pattern for creating Elements for Page objects.
+ * <p>
+ * Element types are looked up in a registry that maps each type name, ignoring case, to the constructor of the type.
+ * The registry is built once when the factory is first used from the element types that come with Sentinel and the
+ * types supplied by any ElementTypeProvider found by the ServiceLoader, so creating an element does not search for
+ * its class. A type that is not registered is looked for once in the current project as a .java file of the same
+ * name, and the result is added to the registry so the search is not repeated.
  * 
  * @author dougnoel@gmail.com
  *
  */
 public class ElementFactory {
     
-    protected static Map<String,Class<?>> elementClasses = new HashMap<>();
-    
 	private static final Logger log = LogManager.getLogger(ElementFactory.class);
+	private static final MethodType ELEMENT_CONSTRUCTOR = MethodType.methodType(void.class, String.class, Map.class);
+
+	private static final Map<String, BiFunction<String, Map<String, String>, Element>> elementTypes = new ConcurrentHashMap<>();
+
+	/**
+	 * The element classes found in the current project, by element type.
+	 * 
+	 * @deprecated Element types are now kept in a registry of constructors. Use
+	 * {@link #registerElementType(String, BiFunction)} or an ElementTypeProvider instead. Classes put in this map
+	 * are still used for element types that have not been registered.
+	 */
+	@Deprecated
+	protected static Map<String,Class<?>> elementClasses = new ConcurrentHashMap<>();
+
+	static {
+		registerElementType("Element", Element::new);
+		registerElementType("Textbox", Textbox::new);
+		registerElementType("WindowsElement", WindowsElement::new);
+		registerElementType("SelectElement", SelectElement::new);
+		registerElementType("Dropdown", Dropdown::new);
+		registerElementType("MaterialUISelect", MaterialUISelect::new);
+		registerElementType("PrimeNGDropdown", PrimeNGDropdown::new);
+		registerElementType("Table", Table::new);
+		registerElementType("NGXDataTable", NGXDataTable::new);
+		loadElementTypeProviders();
+	}
 
     private ElementFactory(){
         // Exists to defeat instantiation.
@@ -39,7 +77,7 @@ public class ElementFactory {
 
     /**
      * Returns an Object that is an Element using the element name and Page. 
-     * We look first in the Sentinel jar, then in the local repository class files.
+     * The element type is taken from the registry, then from the local repository class files.
      * If we don't find the element type in either location, we create a base Element type.
      * 
      * @param elementName String the name of the element to create
@@ -54,104 +92,131 @@ public class ElementFactory {
 			var errorMessage = SentinelStringUtils.format("Data for the element {} could not be found in the {}.yml file.", elementName, page.getName());
 			throw new NoSuchElementException(errorMessage);
 		}
-		try{
-            if (page.getPageObjectType().equals(PageObjectType.EXECUTABLE)) {
-                return new WindowsElement(elementName, elementData);
-            }
-            
-			String elementType = null;
-			if (!elementData.containsKey("elementType"))
-				return new Element(elementName, elementData);
-			
-			elementType = elementData.get("elementType");
-			
-			Class<?> mappedAndRetrievedClass;
-
-            // If the cached Class of the elementType has already been found, create an element of that Class
-			if ((mappedAndRetrievedClass = elementClasses.get(elementType)) != null){
-                var debugMessage = SentinelStringUtils.format("Successfully retrieved cached element Class in element factory for {} element of type {}", elementName, elementType);
-                log.debug(debugMessage);
-                return mappedAndRetrievedClass.getConstructor(String.class, Map.class).newInstance(elementName, elementData);
-            }
-				
-			
-            // Attempt to look in com.dougnoel.sentinel.elements for the Class corresponding to the elementType
-            // This will work in projects extending Sentinel for element types in the Sentinel jar.
-			mappedAndRetrievedClass = retrieveClassBySimpleName(elementType);
-			
-            // If this ^^^ attempt failed, look on disk
-			if (mappedAndRetrievedClass == null) {
-                // First, look for the Class in "this" project's directories. This is the case where a custom element type is created in a project extending Sentinel.
-                var debugMessage =  SentinelStringUtils.format("Failed to find element type {} in default sentinel element package. Looking in current project.", elementType);
-                log.debug(debugMessage);
-				String classPath = FileManager.getClassPath(elementType);
-		    	if (classPath == null) {
-                    // If the above search (in project directories) fails, default the class to "Element".
-                    var debugMessage1 = SentinelStringUtils.format("Failed to find element type {} in current project. Defaulting to type Element.", elementType);
-                    log.debug(debugMessage1);
-		    		mappedAndRetrievedClass = Element.class;
-		    	} else {
-                    // If the above search is successful, fetch the Class corresponding to the elementType.
-                    var debugMessage1 = SentinelStringUtils.format("Successfully found element type {} in current project.", elementType);
-                    log.debug(debugMessage1);
-		    		mappedAndRetrievedClass = Class.forName(classPath);
-		    	}
+
+		if (page.getPageObjectType().equals(PageObjectType.EXECUTABLE))
+			return new WindowsElement(elementName, elementData);
+
+		if (!elementData.containsKey("elementType"))
+			return new Element(elementName, elementData);
+
+		try {
+			return createElement(elementData.get("elementType"), elementName, elementData);
+		} catch (IllegalStateException e) {
+			throw new FileException("Caught", e.getCause(), new File(page.getName() + ".yml"));
+		}
+	}
+
+	/**
+	 * Creates an element of the given type, looking the type up in the registry first and then in the current project.
+	 * 
+	 * @param elementType String the elementType from the page object
+	 * @param elementName String the name of the element to create
+	 * @param elementData Map&lt;String, String&gt; the selectors of the element
+	 * @return Element the element that is created
+	 * @throws IllegalStateException wrapping the reason the element type could not be used
+	 */
+	static Element createElement(String elementType, String elementName, Map<String, String> elementData) {
+		var constructor = elementTypes.get(elementType.toLowerCase(Locale.ROOT));
+		if (constructor == null)
+			constructor = elementTypes.computeIfAbsent(elementType.toLowerCase(Locale.ROOT), key -> findElementType(elementType));
+		return constructor.apply(elementName, elementData);
+	}
+
+	/**
+	 * Registers an element type so that elements with that elementType in a page object are created with the given
+	 * constructor. Registering a name that is already registered replaces the constructor used for it.
+	 * Element types can also be registered by implementing ElementTypeProvider.
+	 * 
+	 * @param elementType String the name of the element type, matched ignoring case
+	 * @param constructor BiFunction&lt;String, Map&lt;String, String&gt;, Element&gt; creates an element from its name and selectors
+	 */
+	public static void registerElementType(String elementType, BiFunction<String, Map<String, String>, Element> constructor) {
+		elementTypes.put(elementType.toLowerCase(Locale.ROOT), constructor);
+	}
+
+	/**
+	 * Registers the element types of every ElementTypeProvider listed in a META-INF/services file on the classpath.
+	 * A provider that cannot be loaded is logged and skipped.
+	 */
+	private static void loadElementTypeProviders() {
+		var providers = ServiceLoader.load(ElementTypeProvider.class).iterator();
+		while (true) {
+			try {
+				if (!providers.hasNext())
+					return;
+				var provider = providers.next();
+				var providedTypes = provider.elementTypes();
+				providedTypes.forEach(ElementFactory::registerElementType);
+				log.debug("Registered the element types {} from {}.", providedTypes.keySet(), provider.getClass().getName());
+			} catch (ServiceConfigurationError e) {
+				log.warn("Unable to load an element type provider. Error: {}", e.getMessage());
 			}
-	    	
-            // Add the resolved Class of the elementType to the elementClasses HashMap so the next time an element of that type is created we have the Class cached.
-	    	elementClasses.put(elementType, mappedAndRetrievedClass);
-	    	
-            // Fetch the constructor for the resolved Class and call it to create a new instance of the element.
-	    	return mappedAndRetrievedClass.getConstructor(String.class, Map.class).newInstance(elementName, elementData);
-
-        }catch(NoSuchMethodException|InvocationTargetException|IllegalAccessException|InstantiationException|ClassNotFoundException e){
-            throw new FileException("Caught", e, new File(page.getName() + ".yml"));
-        }
+		}
+	}
+
+	/**
+	 * Looks for an element type that has not been registered in the current project's directories. This is the case
+	 * where a custom element type is created in a project extending Sentinel and not registered with an
+	 * ElementTypeProvider. The constructor is bound once here, so later elements of the same type are created without
+	 * searching or reflection. If the type is not found, elements of that type are created as a base Element.
+	 * 
+	 * @param elementType String the elementType from the page object that is spelled the same as the class of the element
+	 * @return BiFunction&lt;String, Map&lt;String, String&gt;, Element&gt; the constructor for the element type
+	 * @throws IllegalStateException wrapping the reason the class could not be used if it was found but cannot be created
+	 */
+	private static BiFunction<String, Map<String, String>, Element> findElementType(String elementType) {
+		Class<?> elementClass = elementClasses.get(elementType);
+		if (elementClass == null) {
+			String classPath = FileManager.getClassPath(elementType);
+			if (classPath == null) {
+				log.debug("Failed to find element type {} in current project. Defaulting to type Element.", elementType);
+				return Element::new;
+			}
+			log.debug("Successfully found element type {} in current project.", elementType);
+			try {
+				elementClass = Class.forName(classPath);
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException(e);
+			}
+			elementClasses.put(elementType, elementClass);
+		}
+		return bindConstructor(elementClass);
+	}
+
+	/**
+	 * Binds the constructor of an element class that takes the element name and selectors, so that elements of
+	 * that class can be created without reflection.
+	 * 
+	 * @param elementClass Class&lt;?&gt; the element class, which must be public and extend Element
+	 * @return BiFunction&lt;String, Map&lt;String, String&gt;, Element&gt; the constructor for the element class
+	 * @throws IllegalStateException wrapping the reason the class cannot be created
+	 */
+	static BiFunction<String, Map<String, String>, Element> bindConstructor(Class<?> elementClass) {
+		MethodHandle constructor;
+		try {
+			constructor = MethodHandles.publicLookup().findConstructor(elementClass.asSubclass(Element.class), ELEMENT_CONSTRUCTOR);
+		} catch (ClassCastException | NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		return (elementName, selectors) -> {
+			try {
+				return (Element) constructor.invoke(elementName, selectors);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
 	}
-	
-    /**
-     * Returns Class &lt;?&gt; corresponding to the passed elementType if it exists in the com.dougnoel.sentinel.elements package.
-     * If there is no class in the com.dougnoel.sentinel.elements package that matches the elementType, this method returns null.
-     * @param elementType String the elementType from the page object that is spelled the same (case-insensitive) as the class of the element
-     * @return Class &lt;?&gt; the Class corresponding to the passsed elementType. null if not found.
-     */
-    private static Class<?> retrieveClassBySimpleName(String elementType){
-        try{
-            var allClasses = ClassPath.from(ClassLoader.getSystemClassLoader())
-                .getTopLevelClassesRecursive("com.dougnoel.sentinel.elements")
-                .stream();
-            Optional<ClassInfo> optionalFilteredClassInfo = allClasses
-                                            .filter(c -> c.getSimpleName()
-                                            .equalsIgnoreCase(elementType))
-                                            .findFirst();
-            ClassInfo filteredClassInfo = optionalFilteredClassInfo.isPresent() ? optionalFilteredClassInfo.get() : null;
-            
-            if(filteredClassInfo == null)
-                return null;
-            else
-                return filteredClassInfo.load();
-        }
-        catch (java.util.NoSuchElementException|IOException e) {
-        	return null;
-        }
-    }
 
     /**
-     * Returns a Map &lt;String, String&gt; which contains all data for an element that is declared in the page object YAML file for the given page.
+     * Returns a Map &lt;String, String&gt; which contains all data for an element that is declared in the page object YAML file for the given page,
+     * or in any of the page objects it includes.
      * @param elementName String the name of the element
      * @param pageName String the name of the page
      * @return Map &lt;String, String&gt; the collection of keys and values which were declared in the page object YAML file for the given element on the given page.
      */
     private static Map<String, String> findElementData(String elementName, String pageName) {
-		Map<String, String> elementData = Configuration.getElement(elementName, pageName);
-		if (elementData == null) {
-			for (String page : Configuration.getPageParts(pageName)) {
-				elementData = findElementData(elementName, page);
-				if (elementData != null) {
-					break;
-				}
-			}
-		}
-		return elementData;
+		return Configuration.findElement(elementName, pageName);
 	}
 }
@@ -0,0 +1,172 @@
+package com.dougnoel.sentinel.elements;
+
+import java.awt.Color;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+
+import com.dougnoel.sentinel.strings.SentinelStringUtils;
+
+/**
+ * The state of an element read at one moment: its text, value, requested attributes, whether it is displayed,
+ * enabled, read only and selected, where it is on the page and its background color. Reading a snapshot takes
+ * a single call to the driver, so use it instead of calling several Element getters in a row when none of them
+ * needs to wait. The snapshot does not change when the page does; take a new one to see the current state.
+ *
+ * @see com.dougnoel.sentinel.elements.Element#snapshot(String...)
+ */
+public class ElementSnapshot {
+	private final String text;
+	private final String value;
+	private final Map<String, String> attributes;
+	private final boolean displayed;
+	private final boolean enabled;
+	private final boolean readOnly;
+	private final boolean selected;
+	private final Rectangle rectangle;
+	private final Color backgroundColor;
+
+	ElementSnapshot(String text, String value, Map<String, String> attributes, boolean displayed, boolean enabled,
+			boolean readOnly, boolean selected, Rectangle rectangle, Color backgroundColor) {
+		this.text = text;
+		this.value = value;
+		this.attributes = Collections.unmodifiableMap(new HashMap<>(attributes));
+		this.displayed = displayed;
+		this.enabled = enabled;
+		this.readOnly = readOnly;
+		this.selected = selected;
+		this.rectangle = rectangle;
+		this.backgroundColor = backgroundColor;
+	}
+
+	/**
+	 * Creates a snapshot from the object returned by the ElementState.js script.
+	 *
+	 * @param state Map&lt;String, Object&gt; the state returned by the script
+	 * @return ElementSnapshot the snapshot
+	 */
+	@SuppressWarnings("unchecked")
+	static ElementSnapshot fromScriptResult(Map<String, Object> state) {
+		Map<String, String> attributes = new HashMap<>();
+		((Map<String, Object>) state.get("attributes")).forEach((name, attributeValue) ->
+			attributes.put(name, attributeValue == null ? null : attributeValue.toString()));
+		var color = (String) state.get("backgroundColor");
+
+		return new ElementSnapshot(
+				(String) state.get("text"),
+				(String) state.get("value"),
+				attributes,
+				Boolean.TRUE.equals(state.get("displayed")),
+				Boolean.TRUE.equals(state.get("enabled")),
+				Boolean.TRUE.equals(state.get("readOnly")),
+				Boolean.TRUE.equals(state.get("selected")),
+				new Rectangle(toInt(state.get("x")), toInt(state.get("y")), toInt(state.get("height")), toInt(state.get("width"))),
+				color == null ? Color.white : org.openqa.selenium.support.Color.fromString(color).getColor());
+	}
+
+	private static int toInt(Object number) {
+		return number == null ? 0 : ((Number) number).intValue();
+	}
+
+	/**
+	 * Returns the visible text of the element, with whitespace collapsed. Empty if the element is not displayed.
+	 *
+	 * @return String the text of the element
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the value of the element, e.g. the text in a text box.
+	 *
+	 * @return String the value, or null if the element does not have one
+	 */
+	public String getValue() {
+		return value;
+	}
+
+	/**
+	 * Returns the value of an attribute that was asked for when the snapshot was taken. As with
+	 * Element.getAttribute(), the property with the given name is returned if it exists.
+	 *
+	 * @param attribute String the name of the attribute
+	 * @return String the value of the attribute, or null if it is not set or was not asked for
+	 */
+	public String getAttribute(String attribute) {
+		return attributes.get(attribute);
+	}
+
+	/**
+	 * Returns true if the element was displayed.
+	 *
+	 * @return boolean true if the element was displayed
+	 */
+	public boolean isDisplayed() {
+		return displayed;
+	}
+
+	/**
+	 * Returns true if the element was enabled.
+	 *
+	 * @return boolean true if the element was enabled
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns true if the element was read only.
+	 *
+	 * @return boolean true if the element was read only
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Returns true if the element was checked or selected.
+	 *
+	 * @return boolean true if the element was checked or selected
+	 */
+	public boolean isSelected() {
+		return selected;
+	}
+
+	/**
+	 * Returns the position and size of the element on the page.
+	 *
+	 * @return org.openqa.selenium.Rectangle the bounding rectangle of the element
+	 */
+	public Rectangle getRect() {
+		return rectangle;
+	}
+
+	/**
+	 * Returns the position of the top left corner of the element on the page.
+	 *
+	 * @return org.openqa.selenium.Point the location of the element
+	 */
+	public Point getLocation() {
+		return rectangle.getPoint();
+	}
+
+	/**
+	 * Returns the background color of the element, or the color it shows through from its first parent
+	 * that has one if it is transparent. White if only transparency is found.
+	 *
+	 * @return java.awt.Color the background color
+	 */
+	public Color getBackgroundColor() {
+		return backgroundColor;
+	}
+
+	@Override
+	public String toString() {
+		return SentinelStringUtils.format("text: \"{}\", value: \"{}\", attributes: {}, displayed: {}, enabled: {}, read only: {}, selected: {}, location: {}, size: {}",
+				text.replace("\n", " "), value, attributes, displayed, enabled, readOnly, selected, getLocation(), rectangle.getDimension());
+	}
+}
@@ -0,0 +1,34 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Supplies the element types a project adds to Sentinel, so that they can be used as the elementType of an
+ * element in a page object without Sentinel having to search for the class. To register element types, implement
+ * this interface and list the fully qualified name of the implementing class in a file named
+ * META-INF/services/com.dougnoel.sentinel.elements.ElementTypeProvider on the classpath
+ * (e.g. src/main/resources/META-INF/services/com.dougnoel.sentinel.elements.ElementTypeProvider).
+ * <p>
+ * <b>Example:</b>
+ * <pre>
+ * public class MyElementTypes implements ElementTypeProvider {
+ *     public Map&lt;String, BiFunction&lt;String, Map&lt;String, String&gt;, Element&gt;&gt; elementTypes() {
+ *         return Map.of("Button", Button::new, "DatePicker", DatePicker::new);
+ *     }
+ * }
+ * </pre>
+ *
+ * @see com.dougnoel.sentinel.elements.ElementFactory
+ */
+public interface ElementTypeProvider {
+
+	/**
+	 * Returns the element types to register, each name mapped to the constructor that creates an element of that
+	 * type from the element name and its selectors. Names are matched against the elementType in page objects
+	 * ignoring case.
+	 *
+	 * @return Map&lt;String, BiFunction&lt;String, Map&lt;String, String&gt;, Element&gt;&gt; the element types to register
+	 */
+	Map<String, BiFunction<String, Map<String, String>, Element>> elementTypes();
+}
@@ -0,0 +1,242 @@
+package com.dougnoel.sentinel.elements;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.enums.SelectorType;
+import com.dougnoel.sentinel.exceptions.FileException;
+import com.dougnoel.sentinel.strings.SentinelStringUtils;
+import com.dougnoel.sentinel.system.FileManager;
+
+/**
+ * Counts how often each selector of each element finds the element, so that the selector that usually wins is
+ * tried first and selectors that never match can be cleaned out of the page objects. Only the lookups that find
+ * the element are counted: the selector that found it gets a hit and every selector tried before it gets a miss.
+ * <p>
+ * Statistics are turned off by default. Turn them on by setting the selectorStatistics property to true in the
+ * sentinel.yml config file or on the command line with the switch '-DselectorStatistics=true'. The counts for
+ * each page are kept across runs in a PageName.selectorstats file next to the PageName.yml page object, and are
+ * written when save() is called at the end of a test run.
+ */
+public class SelectorStatistics {
+	private static final Logger log = LogManager.getLogger(SelectorStatistics.class);
+	private static final String FILE_EXTENSION = ".selectorstats";
+	private static final long REPORT_THRESHOLD = 10; // Lookups without a hit before a selector is reported.
+
+	private static final Map<String, PageStatistics> pages = new ConcurrentHashMap<>();
+
+	private SelectorStatistics() {} //Exists to defeat instantiation.
+
+	/**
+	 * Returns true if selector statistics have been turned on with the selectorStatistics property.
+	 *
+	 * @return boolean true if statistics should be kept
+	 */
+	public static boolean isEnabled() {
+		return Configuration.toBoolean("selectorStatistics");
+	}
+
+	/**
+	 * Returns the selectors of an element in the order they should be tried: the highest hit rate first, and
+	 * the order they were given in for selectors with the same hit rate or no history.
+	 *
+	 * @param pageName String the name of the page object the element is being used on
+	 * @param elementName String the name of the element
+	 * @param selectors Map&lt;SelectorType, String&gt; the selectors of the element
+	 * @return List&lt;Map.Entry&lt;SelectorType, String&gt;&gt; the selectors in the order to try them
+	 */
+	public static List<Map.Entry<SelectorType, String>> order(String pageName, String elementName, Map<SelectorType, String> selectors) {
+		List<Map.Entry<SelectorType, String>> ordered = new ArrayList<>(selectors.entrySet());
+		PageStatistics page = getOrLoadPage(pageName);
+		ordered.sort(Comparator.comparingDouble(
+				(Map.Entry<SelectorType, String> selector) -> page.hitRate(elementName, selector.getKey())).reversed());
+		return ordered;
+	}
+
+	/**
+	 * Records that an element was found.
+	 *
+	 * @param pageName String the name of the page object the element is being used on
+	 * @param elementName String the name of the element
+	 * @param triedSelectors List&lt;SelectorType&gt; the selectors in the order they were tried
+	 * @param winningIndex int the index of the selector in the list that found the element
+	 */
+	public static void record(String pageName, String elementName, List<SelectorType> triedSelectors, int winningIndex) {
+		PageStatistics page = getOrLoadPage(pageName);
+		for (int i = 0; i < winningIndex; i++)
+			page.counts(elementName, triedSelectors.get(i)).misses.incrementAndGet();
+		page.counts(elementName, triedSelectors.get(winningIndex)).hits.incrementAndGet();
+		page.changed = true;
+	}
+
+	/**
+	 * Returns a message for every selector that has missed at least ten times without ever finding its element.
+	 *
+	 * @return List&lt;String&gt; the selectors that should be fixed or removed from the page objects
+	 */
+	public static List<String> report() {
+		List<String> messages = new ArrayList<>();
+		pages.forEach((pageName, page) -> page.counts.forEach((key, counts) -> {
+			if (counts.hits.get() == 0 && counts.misses.get() >= REPORT_THRESHOLD)
+				messages.add(SentinelStringUtils.format(
+						"The {} selector of the {} element used on the {} page has not found the element in {} lookups. Consider removing it from the page object.",
+						key.substring(0, key.indexOf('.')), key.substring(key.indexOf('.') + 1), pageName, counts.misses.get()));
+		}));
+		return messages;
+	}
+
+	/**
+	 * Logs the report of selectors that never match and writes the counts of every page that has changed to its
+	 * statistics file. Does nothing if statistics are turned off.
+	 */
+	public static void save() {
+		if (!isEnabled())
+			return;
+		report().forEach(log::warn);
+		pages.forEach((pageName, page) -> {
+			if (page.changed && page.file != null) {
+				write(page);
+				page.changed = false;
+			}
+		});
+	}
+
+	/**
+	 * Throws away the counts held in memory, so that they are read from the statistics files again.
+	 */
+	public static void clear() {
+		pages.clear();
+	}
+
+	/**
+	 * Returns the statistics of a page, reading its statistics file the first time the page is used.
+	 *
+	 * @param pageName String the name of the page object
+	 * @return PageStatistics the statistics of the page
+	 */
+	private static PageStatistics getOrLoadPage(String pageName) {
+		return pages.computeIfAbsent(pageName, name -> {
+			Path file = null;
+			try {
+				File pageFile = FileManager.findFilePath(name + ".yml");
+				file = pageFile.toPath().resolveSibling(name + FILE_EXTENSION);
+			} catch (FileException e) {
+				log.debug("No page object file found for {}. Selector statistics for it will not be saved.", name);
+			}
+			return read(file);
+		});
+	}
+
+	/**
+	 * Reads a statistics file. Each line holds the hits and misses of one selector of one element,
+	 * e.g. "CSS.Submit\ Button=12,0".
+	 *
+	 * @param file Path the statistics file, or null if the page has no file
+	 * @return PageStatistics the statistics read, empty if the file does not exist or cannot be read
+	 */
+	static PageStatistics read(Path file) {
+		var page = new PageStatistics(file);
+		if (file == null || !Files.isRegularFile(file))
+			return page;
+
+		var properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		} catch (IOException e) {
+			log.warn("Unable to read the selector statistics in {}. Error: {}", file, e.getMessage());
+			return page;
+		}
+		properties.forEach((key, value) -> {
+			String[] values = value.toString().split(",");
+			if (values.length == 2 && key.toString().indexOf('.') > 0) {
+				try {
+					var counts = new Counts();
+					counts.hits.set(Long.parseLong(values[0].trim()));
+					counts.misses.set(Long.parseLong(values[1].trim()));
+					page.counts.put(key.toString(), counts);
+				} catch (NumberFormatException e) {
+					log.debug("Ignoring the selector statistics for {} in {}.", key, file);
+				}
+			}
+		});
+		return page;
+	}
+
+	/**
+	 * Writes a statistics file. The file is written to a temporary file first and then moved into place.
+	 *
+	 * @param page PageStatistics the statistics to write
+	 */
+	static void write(PageStatistics page) {
+		var properties = new Properties();
+		page.counts.forEach((key, counts) -> properties.setProperty(key, counts.hits.get() + "," + counts.misses.get()));
+		try {
+			Path temporaryFile = Files.createTempFile(page.file.toAbsolutePath().getParent(), "selectorstats", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+				properties.store(writer, "Sentinel selector statistics: hits,misses for each selector of each element");
+			}
+			Files.move(temporaryFile, page.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			log.warn("Unable to write the selector statistics to {}. Error: {}", page.file, e.getMessage());
+		}
+	}
+
+	/**
+	 * The counts of every selector of every element used on one page, keyed by "SELECTORTYPE.Element Name".
+	 */
+	static final class PageStatistics {
+		final Path file;
+		final Map<String, Counts> counts = new ConcurrentHashMap<>();
+		volatile boolean changed = false;
+
+		PageStatistics(Path file) {
+			this.file = file;
+		}
+
+		Counts counts(String elementName, SelectorType selectorType) {
+			return counts.computeIfAbsent(selectorType.name() + "." + elementName, key -> new Counts());
+		}
+
+		double hitRate(String elementName, SelectorType selectorType) {
+			var selectorCounts = counts.get(selectorType.name() + "." + elementName);
+			return selectorCounts == null ? Counts.NEVER_TRIED : selectorCounts.hitRate();
+		}
+	}
+
+	/**
+	 * The number of times one selector found and failed to find its element.
+	 */
+	static final class Counts {
+		static final double NEVER_TRIED = 0.5;
+		final AtomicLong hits = new AtomicLong();
+		final AtomicLong misses = new AtomicLong();
+
+		/**
+		 * Returns the share of lookups this selector won, or 0.5 if it has never been tried so that a new
+		 * selector is tried before one that keeps missing but after one that keeps finding the element.
+		 *
+		 * @return double the hit rate between 0 and 1
+		 */
+		double hitRate() {
+			long total = hits.get() + misses.get();
+			return total == 0 ? NEVER_TRIED : (double) hits.get() / total;
+		}
+	}
+}
@@ -6,7 +6,7 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.Map;
 
-import com.dougnoel.sentinel.configurations.Time;
+import com.dougnoel.sentinel.configurations.Poller;
 import com.dougnoel.sentinel.enums.SelectorType;
 import com.dougnoel.sentinel.pages.PageManager;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
@@ -35,6 +35,9 @@ public class WindowsElement extends Element {
 	 */
 	public WindowsElement(String elementName, Map<String, String> selectors) {
 		super(elementName, selectors);
+		observerWaitsSupported = false; // WinAppDriver cannot run javascript.
+		scriptLookupSupported = false;
+		stateScriptSupported = false;
 	}
 
 	/**
@@ -63,9 +66,8 @@ public class WindowsElement extends Element {
 	@Override
 	protected WebElement element() {
 		WebElement element;
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); // fetch starting time
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while (poller.poll()) {
 			element = findElementInCurrentFrame();
 			if (element != null)
 				return element;
@@ -1,12 +1,16 @@
 package com.dougnoel.sentinel.elements.tables;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.dougnoel.sentinel.steps.BaseSteps;
 import com.dougnoel.sentinel.webdrivers.WebDriverFactory;
@@ -15,10 +19,13 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 
-import com.dougnoel.sentinel.configurations.Time;
+import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.configurations.Poller;
 import com.dougnoel.sentinel.elements.Element;
+import com.dougnoel.sentinel.math.NumericColumn;
 import com.dougnoel.sentinel.strings.AlphanumComparator;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
+import com.dougnoel.sentinel.system.FileManager;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 /**
@@ -28,15 +35,19 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 
 public class Table extends Element {
 	private static final Logger log = LogManager.getLogger(Table.class.getName()); // Create a logger.
+	private static final String TABLE_DATA_SCRIPT = "src/main/resources/scripts/TableData.js";
+	private static String tableDataScript = null;
+	private static final AlphanumComparator ALPHANUM_COMPARATOR = new AlphanumComparator();
+	private static final TableSnapshot EMPTY_SNAPSHOT = new TableSnapshot(Collections.emptyList(), Collections.emptyList());
 
 	protected List<WebElement> headerElements = null; // Table Columns headers using <th> tags
 	protected Boolean hasProperHeaderElements = null;
 
-	protected List<String> headers = new ArrayList<>(); // Column headers as text
 	protected List<WebElement> rowElements = null; // Table Rows using <tr> tags
-	protected List<ArrayList<String>> rows = new ArrayList<>(); // All text values of every row
-	protected Map<String, ArrayList<String>> columns = new HashMap<>(); // All text values of every column
-	protected Map<Integer, List<ArrayList<String>>> tables = new HashMap<>(); // Way to hold values of the same table on multiple pages.
+	protected TableSnapshot snapshot = null; // Headers and text values of every cell, read once per scrape
+	protected List<String> rowHashes = null; // Fingerprint of each row in the snapshot, used to re-read only the rows that changed
+	protected boolean refreshPending = false;
+	protected Map<Integer, TableFingerprint> tables = new HashMap<>(); // Way to hold values of the same table on multiple pages.
 	
 	protected String tableHeaderTag = "th";
 	protected String tableRowTag = "tr";
@@ -45,10 +56,12 @@ public class Table extends Element {
 	protected String tableRowLocator = ".//tbody//" + tableCellDataTag + "/..";
 	protected String tableSiblingCellLocator = "//..//*";
 	protected String tableHeaderSortElementLocator = "";
+	protected boolean bulkExtractionSupported = true;
+	protected boolean streamingSupported = true;
 	
 	/**
 	 * Creates a table object to manipulate. When used the table object finds and creates rows and columns and stores them. 
-	 * If data in the table changes you must use the reset() method. You can save the current state of a table by calling 
+	 * If data in the table changes you must use the reset() or refresh() method. You can save the current state of a table by calling 
 	 * the storeTable() method.
 	 *
 	 * @param elementName String the name of the element
@@ -65,18 +78,65 @@ public class Table extends Element {
 		if (headerElements != null) {
 			headerElements.clear();
 		}
-		if (headers != null) {
-			headers.clear();
+		if (rowElements != null) {
+			rowElements.clear();
+		}
+		snapshot = null;
+		rowHashes = null;
+		refreshPending = false;
+	}
+
+	/**
+	 * Marks the table data as out of date so that it is read again the next time it is used. If incremental refresh
+	 * is turned on, only the rows that have changed since the table was last read are read again, and the rest of the
+	 * data is kept. Otherwise this is the same as reset().
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#isIncrementalRefreshEnabled()
+	 */
+	public void refresh() {
+		if (snapshot == null || rowHashes == null || !isIncrementalRefreshEnabled()) {
+			reset();
+			return;
+		}
+		if (headerElements != null) {
+			headerElements.clear();
 		}
 		if (rowElements != null) {
 			rowElements.clear();
 		}
-		if (rows != null) {
-			rows.clear();
+		refreshPending = true;
+	}
+
+	/**
+	 * Returns the data in the table as it was the last time it was read, reading it if it has not been read yet
+	 * or if reset() or refresh() has been called since. A table that could not be read in time is returned as
+	 * empty and is read again on the next call.
+	 * 
+	 * @return TableSnapshot the headers and cell data of the table
+	 */
+	protected TableSnapshot getOrCreateSnapshot() {
+		if (snapshot == null) {
+			createRowData();
+		} else if (refreshPending) {
+			refreshRowData();
 		}
-		if (columns != null) {
-			columns.clear();
+		return snapshot == null ? EMPTY_SNAPSHOT : snapshot;
+	}
+
+	/**
+	 * Reads again only the rows of the table whose fingerprint has changed since the table was last read, keeping
+	 * the data already read for every other row. If the rows cannot be read this way, the whole table is read again.
+	 */
+	protected void refreshRowData() {
+		refreshPending = false;
+		try {
+			if (readRowDataInBulk(rowHashes))
+				return;
+		} catch (StaleElementReferenceException sere) {
+			log.trace("StaleElementReferenceException caught while refreshing row data. Reading the whole table again.");
 		}
+		reset();
+		createRowData();
 	}
 
 	/**
@@ -86,25 +146,40 @@ public class Table extends Element {
 	 * @return List&lt;String&gt; the headers of the table, populates with the first
 	 *         row if there are no &lt;th&gt; tags	 */
 	protected List<String> getOrCreateHeaders() {
-		if (headers.isEmpty()) {
-			getOrCreateHeaderElements();
-			for (WebElement header : headerElements) {
-				String headerText = header.getText().replaceAll("[\\t\\n\\r]+"," ").strip();
-				headers.add(headerText);
-			}
+		List<String> headers = getOrCreateSnapshot().getHeaders();
+		log.trace("Headers: {}", headers);
+		return headers;
+	}
+
+	/**
+	 * Reads the text of the header elements, using the first row of the given row data if there is no
+	 * header text to be found.
+	 * 
+	 * @param rowData List&lt;List&lt;String&gt;&gt; the row data already read from the table
+	 * @return List&lt;String&gt; the headers of the table
+	 */
+	private List<String> readHeaders(List<List<String>> rowData) {
+		List<String> headers = new ArrayList<>();
+		for (WebElement header : getOrCreateHeaderElements()) {
+			headers.add(normalizeHeader(header.getText()));
 		}
-		// If we cannot find headers, then we need to populate this array with the first row
-		if (headers.isEmpty()) {
-			getOrCreateRows();
-			List<String> firstRow = rows.get(0);
-			for (String cell : firstRow) {
-				headers.add(cell);
-			}
+		// If we cannot find headers, then we need to populate this list with the first row
+		if (headers.isEmpty() && !rowData.isEmpty()) {
+			headers.addAll(rowData.get(0));
 		}
-		log.trace("Headers: {}", headers);
 		return headers;
 	}
 
+	/**
+	 * Replaces tabs and line breaks in header text with spaces and strips surrounding whitespace.
+	 * 
+	 * @param headerText String the text of a header element
+	 * @return String the header text as it is stored
+	 */
+	private static String normalizeHeader(String headerText) {
+		return headerText.replaceAll("[\\t\\n\\r]+"," ").strip();
+	}
+
 	/** 
 	 *  Returns the header elements in the table as a list of WebElements, 
 	 *  creates row elements if no &lt;th$gt; elements are found,
@@ -116,7 +191,7 @@ public class Table extends Element {
 		if (headerElements == null || headerElements.isEmpty()) {
 			headerElements = getHeaderElements();
 		}
-		if (headerElements == null || headerElements.isEmpty()) {
+		if ((headerElements == null || headerElements.isEmpty()) && !getOrCreateRowElements().isEmpty()) {
 			log.trace("Header tags not found, using first row for headers.");
 			headerElements = getOrCreateRowElements().get(0).findElements(By.tagName(tableCellDataTag));
 		} else {
@@ -155,15 +230,13 @@ public class Table extends Element {
 	 * @return the header WebElement element for the column
 	 */
 	protected WebElement getColumnHeaderElement(String columnHeader) {
-		Optional<WebElement> header = getOrCreateHeaderElements()
-				.stream()
-				.filter(element -> element.getText().replaceAll("[\t\n\r]+"," ").strip().equals(columnHeader))
-				.findFirst();
+		int columnIndex = getOrCreateSnapshot().getColumnIndex(columnHeader);
+		List<WebElement> columnHeaderElements = getOrCreateHeaderElements();
 
-		if(header.isEmpty())
+		if(columnIndex == -1 || columnIndex >= columnHeaderElements.size())
 			throw new NoSuchElementException("No column found with header " + columnHeader);
 
-		return header.get();
+		return columnHeaderElements.get(columnIndex);
 	}
 
 	/**
@@ -195,76 +268,180 @@ public class Table extends Element {
 	/**
 	 * Returns array of cell arrays, with data for each cell, in the table. Initial row of table headers is removed
 	 * 
-	 * @return List&lt;ArrayList&lt;String&gt;&gt;
+	 * @return List&lt;List&lt;String&gt;&gt;
 	 */
-	protected List<ArrayList<String>> getOrCreateRows() {
-		if (rows.isEmpty()) {
-			createRowData();
-		}
+	protected List<List<String>> getOrCreateRows() {
+		List<List<String>> rows = getOrCreateSnapshot().getRows();
 		log.trace("Rows Data: {}", rows);
 		return rows;
 	}
 	
 	/**
-	 * Creates row data by searching each passed row element for cells, and then adding cells to the table's rows list.
+	 * Creates the table snapshot by searching each passed row element for cells, and then adding cells to the snapshot.
+	 * If bulk extraction is enabled, the whole table is read with one injected script instead of
+	 * one driver call per row and cell.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#createRowDataInBulk()
 	 */
 	protected void createRowData() {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); //fetch starting time
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while (poller.poll()) {
 			try {
+				if (isBulkExtractionEnabled() && createRowDataInBulk())
+					return;
 				var dataRows = getOrCreateRowElements();
+				List<List<String>> rowData = new ArrayList<>(dataRows.size());
 				for (WebElement row : dataRows) {
 					List<WebElement> cellElements = row.findElements(By.tagName(tableCellDataTag));
-					ArrayList<String> cells = new ArrayList<>();
+					List<String> cells = new ArrayList<>(cellElements.size());
 					cellElements.forEach(cellElement -> cells.add(fetchDataFromCellInterior(cellElement)));
-					rows.add(cells);
+					rowData.add(cells);
 				}
+				snapshot = new TableSnapshot(readHeaders(rowData), rowData);
 				return;
 			} catch (org.openqa.selenium.StaleElementReferenceException sere) {
 				log.trace("StaleElementReferenceException caught while creating row data. Resetting row elements and trying again.");
 				rowElements = null; // reset the row elements so the ones that are stale aren't used in the next iteration
+				headerElements = null;
 			}
 		}
+		log.debug("Timed out reading the {} table. Treating it as empty until it is read again.", getName());
 	}
 
 	/**
-	 * Returns number of row elements from getOrCreateRowElements
+	 * Returns true if the table should be read with a single injected script. Bulk extraction is on by default
+	 * and can be turned off by setting the tableBulkExtraction property to false in the sentinel.yml config file
+	 * or on the command line with the switch '-DtableBulkExtraction=false'. It is also turned off for this table
+	 * if the driver cannot execute the script.
 	 * 
-	 * @see com.dougnoel.sentinel.elements.tables.Table#getOrCreateRowElements()
-	 * @return int the number of row elements
+	 * @return boolean true if bulk extraction should be used, false otherwise
 	 */
-	public int getNumberOfRows() {
-		final int numberOfRows = getOrCreateRowElements().size();
-		log.trace("Number of rows found: {}", numberOfRows);
-		return numberOfRows;
+	protected boolean isBulkExtractionEnabled() {
+		return bulkExtractionSupported && !"false".equalsIgnoreCase(Configuration.toString("tableBulkExtraction"));
 	}
 
 	/**
-	 * Returns the mapping of header strings to cell arrays for each column in the table. 
-	 * e.g. { "Date Column": ["1/1/01", "1/2/01", ...] }
+	 * Returns true if refreshing the table should read again only the rows that changed. When it is on, each row is
+	 * given a fingerprint when the table is read in bulk, and refresh() compares the fingerprints in the page to
+	 * decide which rows to read. Incremental refresh is turned off by default. Turn it on by setting the
+	 * tableIncrementalRefresh property to true in the sentinel.yml config file or on the command line with the switch
+	 * '-DtableIncrementalRefresh=true'. It needs bulk extraction, and is off whenever bulk extraction is.
 	 * 
-	 * @return Map&lt;String, ArrayList&lt;String&gt;&gt;
-	 */
-	protected Map<String, ArrayList<String>> getOrCreateColumns() {
-		if (columns.isEmpty()) {
-			int index = 0;
-			getOrCreateRows(); // We cannot create the columns without Row data
-			for (String header : getOrCreateHeaders()) {
-				ArrayList<String> cells = new ArrayList<>();
-				for (ArrayList<String> row : rows) {
-					if (!row.isEmpty()) {
-						cells.add(row.get(index));
-					}
-				}
-				columns.put(header, cells);
-				index++;
+	 * @return boolean true if incremental refresh should be used, false otherwise
+	 */
+	protected boolean isIncrementalRefreshEnabled() {
+		return isBulkExtractionEnabled() && Configuration.toBoolean("tableIncrementalRefresh");
+	}
+
+	/**
+	 * Reads the headers and the data of every cell in the table in one round trip to the driver and stores them
+	 * in the table snapshot. The tableHeaderTag, tableRowLocator, tableCellDataTag and tableDataCellLocator
+	 * members are passed to the script so that subclasses such as NGXDataTable are read the same way.
+	 * If the driver cannot run the script, bulk extraction is turned off for this table. If the script fails for any
+	 * other reason, or returns no table data, only this read falls back. Either way false is returned so that the
+	 * caller can fall back to reading each cell.
+	 * 
+	 * @return boolean true if the table data was read, false if the driver could not run the script
+	 * @throws StaleElementReferenceException if the table changed while it was being read
+	 */
+	protected boolean createRowDataInBulk() {
+		return readRowDataInBulk(null);
+	}
+
+	/**
+	 * Reads the table in one round trip to the driver and stores it in the table snapshot. If fingerprints of the
+	 * rows from the last time the table was read are given, rows with the same fingerprint are not read again and
+	 * their data is copied from the current snapshot.
+	 * 
+	 * @param previousHashes List&lt;String&gt; the fingerprint of each row in the current snapshot, or null to read every row
+	 * @return boolean true if the table data was read, false if the driver could not run the script
+	 * @throws StaleElementReferenceException if the table changed while it was being read
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean readRowDataInBulk(List<String> previousHashes) {
+		Map<String, Object> tableData;
+		try {
+			tableData = (Map<String, Object>) ((JavascriptExecutor) driver()).executeScript(getTableDataScript(),
+					element(), tableHeaderTag, tableRowLocator, tableCellDataTag, tableDataCellLocator,
+					isIncrementalRefreshEnabled(), previousHashes);
+		} catch (StaleElementReferenceException sere) {
+			throw sere;
+		} catch (IOException | ClassCastException | UnsupportedCommandException e) {
+			log.debug("Unable to read the {} table in bulk, reading each cell instead. Error: {}", getName(), e.getMessage());
+			bulkExtractionSupported = false;
+			return false;
+		} catch (WebDriverException e) {
+			log.trace("Reading the {} table in bulk failed, reading each cell this time. Error: {}", getName(), e.getMessage());
+			return false;
+		}
+		if (tableData == null || !(tableData.get("rows") instanceof List) || !(tableData.get("headers") instanceof List)) {
+			log.trace("Reading the {} table in bulk returned no table data, reading each cell this time.", getName());
+			return false;
+		}
+
+		var bulkRows = (List<List<Object>>) tableData.get("rows");
+		List<List<String>> changedRows = new ArrayList<>(bulkRows.size());
+		int unchangedRows = 0;
+		for (List<Object> bulkRow : bulkRows) {
+			if (bulkRow == null) {
+				changedRows.add(null);
+				unchangedRows++;
+				continue;
 			}
+			List<String> cells = new ArrayList<>(bulkRow.size());
+			bulkRow.forEach(cell -> cells.add(cell == null ? "" : cell.toString()));
+			changedRows.add(cells);
 		}
-		log.trace("Columns Data: {}", columns);
-		return columns;
+		List<List<String>> rowData = unchangedRows == 0 ? changedRows : snapshot.mergeRows(changedRows);
+
+		var bulkHeaders = (List<Object>) tableData.get("headers");
+		hasProperHeaderElements = !bulkHeaders.isEmpty();
+		List<String> headers = new ArrayList<>(bulkHeaders.size());
+		if (hasProperHeaderElements)
+			bulkHeaders.forEach(header -> headers.add(normalizeHeader(header.toString())));
+		else if (!rowData.isEmpty())
+			rowData.get(0).forEach(cell -> headers.add(normalizeHeader(cell)));
+
+		snapshot = new TableSnapshot(headers, rowData);
+		var hashes = (List<Object>) tableData.get("hashes");
+		rowHashes = hashes == null ? null : hashes.stream().map(String::valueOf).collect(Collectors.toList());
+		log.trace("Read {} rows from the {} table in bulk. {} rows were unchanged.", rowData.size() - unchangedRows, getName(), unchangedRows);
+		return true;
 	}
-	
+
+	/**
+	 * Returns the script used to read a whole table in one call, loading it the first time it is needed.
+	 * 
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getTableDataScript() throws IOException {
+		if (tableDataScript == null)
+			tableDataScript = FileManager.loadJavascript(TABLE_DATA_SCRIPT);
+		return tableDataScript;
+	}
+
+	/**
+	 * Returns number of row elements from getOrCreateRowElements. If streaming is turned on, the rows are counted
+	 * while scrolling through the table, so rows that are not rendered are counted too.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#getOrCreateRowElements()
+	 * @see com.dougnoel.sentinel.elements.tables.Table#streamRows()
+	 * @return int the number of row elements
+	 */
+	public int getNumberOfRows() {
+		final int numberOfRows;
+		if (isStreamingEnabled()) {
+			try (Stream<List<String>> rows = streamRows()) {
+				numberOfRows = (int) rows.count();
+			}
+		} else {
+			numberOfRows = getOrCreateRowElements().size();
+		}
+		log.trace("Number of rows found: {}", numberOfRows);
+		return numberOfRows;
+	}
+
 	/**
 	 * Returns the number of columns in the table.
 	 * 
@@ -293,11 +470,33 @@ public class Table extends Element {
 	 * integer passed in the pageNumber parameter. Used for comparing paginated
 	 * table data.
 	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#storeTable(int, String)
 	 * @param pageNumber int the page number under which to store the table data for comparison
 	 */
 	public void storeTable(int pageNumber) {
-		reset();
-		tables.put(pageNumber, getOrCreateRows());
+		storeTable(pageNumber, null);
+	}
+
+	/**
+	 * Stores a fingerprint of the current table rows on the current page in an index given by the integer passed
+	 * in the pageNumber parameter. Only a hash of each row is stored, along with the text of the key column if one
+	 * is given, so that comparing the table later can tell which rows were added, removed or changed. To store the
+	 * full data as well, so that the rows that differ can be shown, set the tableStoreFullData property to true in
+	 * the sentinel.yml config file or on the command line with the switch '-DtableStoreFullData=true'.
+	 * 
+	 * @param pageNumber int the page number under which to store the table data for comparison
+	 * @param keyColumnHeader String the header of a column with a different value in every row, or null to match rows by their data
+	 */
+	public void storeTable(int pageNumber, String keyColumnHeader) {
+		refresh();
+		tables.put(pageNumber, TableFingerprint.of(getOrCreateSnapshot(), keyColumnHeader, Configuration.toBoolean("tableStoreFullData")));
+	}
+
+	/**
+	 * Forgets every page of the table saved with storeTable().
+	 */
+	public void clearStoredTables() {
+		tables.clear();
 	}
 
 	/**
@@ -316,8 +515,31 @@ public class Table extends Element {
 	 * @return boolean Table matches the one in memory.
 	 */
 	public boolean compareWithStoredTable(int pageNumber) {
-		reset();
-		return (tables.get(pageNumber) == getOrCreateRows());
+		if (!tables.containsKey(pageNumber)) {
+			log.debug("No data has been stored for page {} of the {} table.", pageNumber, getName());
+			return false;
+		}
+		var diff = diffWithStoredTable(pageNumber);
+		if (!diff.isEmpty())
+			log.debug("Page {} of the {} table does not match the current page. {}", pageNumber, getName(), diff);
+		return diff.isEmpty();
+	}
+
+	/**
+	 * Returns the differences between the given number of a page stored in memory and the one currently being
+	 * displayed. Rows are matched on the key column given when the page was stored, or on their data if no key
+	 * column was given.
+	 * 
+	 * @param pageNumber int the stored page number to compare against the current page
+	 * @return TableDiff the rows added, removed and changed since the page was stored
+	 * @throws NoSuchElementException if no data has been stored for the page
+	 */
+	public TableDiff diffWithStoredTable(int pageNumber) {
+		var storedTable = tables.get(pageNumber);
+		if (storedTable == null)
+			throw new NoSuchElementException(SentinelStringUtils.format("No data has been stored for page {} of the {} table.", pageNumber, getName()));
+		refresh();
+		return new TableDiff(storedTable, TableFingerprint.of(getOrCreateSnapshot(), storedTable.getKeyColumn(), true));
 	}
 
 	/**
@@ -537,19 +759,105 @@ public class Table extends Element {
 	 *         list corresponds to a cell.
 	 */
 	public List<String> getAllCellDataForColumn(String columnHeader) {
-		int arrayIndexOfHeader = getOrCreateHeaders().indexOf(columnHeader);
-		if (arrayIndexOfHeader == -1) {
+		var tableSnapshot = getOrCreateSnapshot();
+		int columnIndex = tableSnapshot.getColumnIndex(columnHeader);
+		if (columnIndex == -1) {
 			String errorMessage = SentinelStringUtils.format("{} column does not exist.", columnHeader);
 			log.error(errorMessage);
 			throw new NoSuchElementException(errorMessage);
 		}
-		// add 1 because the List.getIndex method is 0-indexed and XPath is 1-indexed
-		int xpathIndexOfHeader = arrayIndexOfHeader + 1;
-		
-		List<String> cellData = new ArrayList<>();
-		this.element().findElements(By.xpath(".//" + tableCellDataTag + "[" + xpathIndexOfHeader + "]")).stream()
-				.forEach(cellElement -> cellData.add(fetchDataFromCellInterior(cellElement)));
-		return cellData;
+		return tableSnapshot.getColumn(columnIndex);
+	}
+
+	/**
+	 * Returns true if the rows of the table should be read a screen at a time while scrolling the table, so that
+	 * tables that only render the rows in view are read in full. Streaming is turned off by default. Turn it on by
+	 * setting the tableStreaming property to true in the sentinel.yml config file or on the command line with the
+	 * switch '-DtableStreaming=true'. It is also turned off for this table if the driver cannot execute the script.
+	 * 
+	 * @return boolean true if the rows should be streamed, false otherwise
+	 */
+	protected boolean isStreamingEnabled() {
+		return streamingSupported && Configuration.toBoolean("tableStreaming");
+	}
+
+	/**
+	 * Returns the rows of the table as a stream of cell data.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#streamRows(String)
+	 * @return Stream&lt;List&lt;String&gt;&gt; the rows of the table
+	 */
+	public Stream<List<String>> streamRows() {
+		return streamRows(null);
+	}
+
+	/**
+	 * Returns the rows of the table as a stream of cell data. If streaming is turned on, rows are read a screen at a
+	 * time as the stream is used, scrolling the table to render them, and a row read twice while scrolling is only
+	 * returned once. Rows are told apart by the text in the key column if one is given, otherwise by where they sit
+	 * in the table. A stream that is only partly used only reads the rows it needs. Close the stream to scroll the
+	 * table back to where it was. If streaming is turned off, the rows come from the table data already read.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#isStreamingEnabled()
+	 * @param keyColumnHeader String the header of a column with a different value in every row, or null to use the position of each row
+	 * @return Stream&lt;List&lt;String&gt;&gt; the rows of the table
+	 */
+	public Stream<List<String>> streamRows(String keyColumnHeader) {
+		var reader = createRowReader(keyColumnHeader);
+		if (reader == null)
+			return getOrCreateRows().stream();
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(reader::restoreScrollPosition);
+	}
+
+	/**
+	 * Returns the cells in the given column as a stream, read the same way as streamRows(). Rows that do not have a
+	 * cell in the column are skipped.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#streamRows(String)
+	 * @param columnHeader String the header of the column
+	 * @return Stream&lt;String&gt; the cells in the column
+	 */
+	public Stream<String> streamColumn(String columnHeader) {
+		var reader = createRowReader(null);
+		if (reader == null)
+			return getAllCellDataForColumn(columnHeader).stream();
+
+		int columnIndex = reader.getHeaders().indexOf(columnHeader);
+		if (columnIndex == -1) {
+			reader.restoreScrollPosition();
+			String errorMessage = SentinelStringUtils.format("{} column does not exist.", columnHeader);
+			log.error(errorMessage);
+			throw new NoSuchElementException(errorMessage);
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.filter(row -> columnIndex < row.size())
+				.map(row -> row.get(columnIndex))
+				.onClose(reader::restoreScrollPosition);
+	}
+
+	/**
+	 * Returns a reader that streams the rows of the table with the first screen of rows already read, or null if
+	 * streaming is turned off or the driver cannot run the script used to read the rows. In that case streaming is
+	 * turned off for this table.
+	 * 
+	 * @param keyColumnHeader String the header of the key column, or null to tell rows apart by position
+	 * @return TableRowReader the reader, or null if the rows cannot be streamed
+	 */
+	private TableRowReader createRowReader(String keyColumnHeader) {
+		if (!isStreamingEnabled())
+			return null;
+		var reader = new TableRowReader(this, element(), driver(), keyColumnHeader);
+		try {
+			reader.getHeaders();
+			return reader;
+		} catch (NoSuchElementException | StaleElementReferenceException e) {
+			throw e;
+		} catch (com.dougnoel.sentinel.exceptions.IOException | ClassCastException | WebDriverException e) {
+			log.debug("Unable to stream the rows of the {} table, reading the whole table instead. Error: {}", getName(), e.getMessage());
+			streamingSupported = false;
+			return null;
+		}
 	}
 
 	/**
@@ -592,38 +900,40 @@ public class Table extends Element {
 	 * @return boolean true if the column contains the given text in every cell, false if not
 	 */
 	public boolean verifyAllColumnCellsContain(String columnHeader, boolean partialMatch, String textToMatch) {
-		ArrayList<String> column = (ArrayList<String>) getAllCellDataForColumn(columnHeader);
-		for (String cell : column) {
-			try {
-				if(partialMatch){
-					if (!cell.contains(textToMatch)) {
-						log.debug("Not all values in the {} column contain {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, cell);
-						return false;
+		try (Stream<String> column = streamColumn(columnHeader)) {
+			for (String cell : (Iterable<String>) column::iterator) {
+				try {
+					if(partialMatch){
+						if (!cell.contains(textToMatch)) {
+							log.debug("Not all values in the {} column contain {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, cell);
+							return false;
+						}
 					}
-				}
-				else{
-					if (!cell.equals(textToMatch)) {
-						log.debug("Not all values in the {} column are equal to {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, cell);
-						return false;
+					else{
+						if (!cell.equals(textToMatch)) {
+							log.debug("Not all values in the {} column are equal to {}. Cell contained the data: {}. False result returned.", columnHeader, textToMatch, cell);
+							return false;
+						}
 					}
+
+				} catch (NullPointerException e) {
+					String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in every cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
+					log.error(errorMessage);
+					throw new NoSuchElementException(errorMessage, e);
 				}
 
-			} catch (NullPointerException e) {
-				String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in every cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
-				log.error(errorMessage);
-				throw new NoSuchElementException(errorMessage, e);
 			}
-
 		}
 		return true;
 	}
 
 	private boolean verifyColumnEmptiness(String columnHeader, boolean checkForAllCellsEmpty) {
-		ArrayList<String> column = (ArrayList<String>) getAllCellDataForColumn(columnHeader);
-		for (String cell : column) {
-			if (StringUtils.isEmpty(cell) != checkForAllCellsEmpty) {
-				log.debug("Not all cells in the {} column are {}. False result returned.", columnHeader, checkForAllCellsEmpty ? "empty" : "populated");
-				return false;
+		try (Stream<String> column = streamColumn(columnHeader)) {
+			for (String cell : (Iterable<String>) column::iterator) {
+				if (StringUtils.isEmpty(cell) != checkForAllCellsEmpty) {
+					log.debug("Not all cells in the {} column are {}. False result returned.", columnHeader, checkForAllCellsEmpty ? "empty" : "populated");
+					return false;
+				}
 			}
 		}
 		return true;
@@ -658,20 +968,21 @@ public class Table extends Element {
 	 * @return boolean true if the column contains the given text in at least one of the cells, false if not
 	 */
 	public boolean verifyAnyColumnCellContains(String columnHeader, String textToMatch) {
-		ArrayList<String> column = (ArrayList<String>) getAllCellDataForColumn(columnHeader);
-		for (String cell : column) {
-			try {
-				if (cell.contains(textToMatch)) {
-					return true;
-				} else {
-					log.trace("Looking for any cell in the {} column to contain {}. Found: {}", columnHeader, textToMatch, cell);
+		try (Stream<String> column = streamColumn(columnHeader)) {
+			for (String cell : (Iterable<String>) column::iterator) {
+				try {
+					if (cell.contains(textToMatch)) {
+						return true;
+					} else {
+						log.trace("Looking for any cell in the {} column to contain {}. Found: {}", columnHeader, textToMatch, cell);
+					}
+				} catch (NullPointerException e) {
+					String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in any cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
+					log.error(errorMessage);
+					throw new NoSuchElementException(errorMessage, e);
 				}
-			} catch (NullPointerException e) {
-				String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in any cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
-				log.error(errorMessage);
-				throw new NoSuchElementException(errorMessage, e);
-			}
 
+			}
 		}
 		log.debug("No values in the {} column are equal to {}. False result returned. Turn on trace logging level to see all values found.", columnHeader, textToMatch);
 		return false;
@@ -685,20 +996,21 @@ public class Table extends Element {
 	 * @return boolean true if the column has the given text in at least one of the cells, false if not
 	 */
 	public boolean verifyAnyColumnCellHas(String columnHeader, String textToMatch) {
-		ArrayList<String> column = (ArrayList<String>) getAllCellDataForColumn(columnHeader);
-		for (String cell : column) {
-			try {
-				if (cell.equals(textToMatch)) {
-					return true;
-				} else {
-					log.trace("Looking for any cell in the {} column to have the exact text {}. Found: {}", columnHeader, textToMatch, cell);
+		try (Stream<String> column = streamColumn(columnHeader)) {
+			for (String cell : (Iterable<String>) column::iterator) {
+				try {
+					if (cell.equals(textToMatch)) {
+						return true;
+					} else {
+						log.trace("Looking for any cell in the {} column to have the exact text {}. Found: {}", columnHeader, textToMatch, cell);
+					}
+				} catch (NullPointerException e) {
+					String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in any cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
+					log.error(errorMessage);
+					throw new NoSuchElementException(errorMessage, e);
 				}
-			} catch (NullPointerException e) {
-				String errorMessage = SentinelStringUtils.format("NullPointerException triggered when searching for the value {} in any cell in the {} column. Value found: {}", textToMatch, columnHeader, cell);
-				log.error(errorMessage);
-				throw new NoSuchElementException(errorMessage, e);
-			}
 
+			}
 		}
 		log.debug("No values in the {} column are equal to {}. False result returned. Turn on trace logging level to see all values found.", columnHeader, textToMatch);
 		return false;
@@ -764,64 +1076,33 @@ public class Table extends Element {
 	 * @return boolean true is the column is sorted in the passed sort order, false if it is not sorted correctly
 	 */
 	public boolean verifyColumnCellsAreSorted(String columnName, boolean sortOrderAscending) {
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnName);
-		@SuppressWarnings("unchecked")
-		ArrayList<String> sortedColumn = (ArrayList<String>) column.clone();
-		
-		// We needs to sort the strings taking into account there might be numbers in the strings.
-		// We do that with a special sort.
-		Collections.sort(sortedColumn, new AlphanumComparator());
-		//If we want a descending sort order, we need to use the custom sort above, then reverse it.
-		if (!sortOrderAscending)
-		{
-			Collections.reverse(sortedColumn);	
-		}
+		List<String> column = getAllCellDataForColumn(columnName);
+
+		// We need to compare the strings taking into account there might be numbers in the strings.
+		// We do that with a special comparator, checking each cell against the next one in a single pass.
+		boolean sorted = ALPHANUM_COMPARATOR.isSorted(column, sortOrderAscending);
 		log.trace("Sort Order: {}\n"
-				+ "Original Column Data: {}\n"
-				+ "  Sorted Column Data: {}", 
-				sortOrderAscending ? "Ascending" : "Descending", column, sortedColumn);
+				+ "Column Data: {}\n"
+				+ "Sorted: {}", 
+				sortOrderAscending ? "Ascending" : "Descending", column, sorted);
 
-		return column.equals(sortedColumn);
+		return sorted;
 	}
 	
 	/**
-	 * Returns &lt;code&gt;true&lt;/code&gt; if the column cells are unique
+	 * Returns &lt;code&gt;true&lt;/code&gt; if the column cells are unique. Any duplicate values are logged with the rows they are in.
 	 * 
 	 * @param columnHeader String text of the given column header to search
 	 * @return boolean true if column cells are unique, false if duplicates are found, throws error otherwise
 	 */
 	public boolean verifyColumnCellsAreUnique(String columnHeader) {
-		if (!verifyColumnHeaderEquals(columnHeader, false)) {
+		var tableSnapshot = getOrCreateSnapshot();
+		int columnIndex = tableSnapshot.getColumnIndex(columnHeader);
+		if (columnIndex == -1 || tableSnapshot.getColumn(columnIndex).isEmpty()) {
 			log.error("IllegalArgumentException: Column header \"{}\" does not exist.", columnHeader);
 			throw new IllegalArgumentException("Column header \"" + columnHeader + "\" does not exist.");
 		}
-		getOrCreateHeaders();
-		ArrayList<String> column = getOrCreateColumns().get(columnHeader);
-		if (column.isEmpty()) {
-			log.error("Header text: {}", columnHeader);
-			throw new IllegalArgumentException("Column header \"" + columnHeader + "\" does not exist.");
-		}
-		for (String cell : column) {
-			try {
-				int count = 0;
-				for (String cell2 : column) {
-					if (cell2.equals(cell)) {
-						count++;
-					}
-					if (count > 1) {
-						log.error("False result returned. Header text: {} | Cell data: {}", columnHeader, cell);
-						return false;
-					}
-				}
-
-			} catch (NullPointerException e) {
-				log.error("NullPointerException thrown. Header text: {} | Cell data: {}", columnHeader, cell);
-				throw e;
-			}
-
-		}
-		return true;
+		return verifyNoDuplicateRows(tableSnapshot, new String[] {columnHeader}, new int[] {columnIndex});
 	}
 
 	/**
@@ -854,61 +1135,66 @@ public class Table extends Element {
 	}
 
 	/**
-	 * Returns true if the cell values are unique for the given array of column names
+	 * Returns true if the cell values are unique for the given array of column names. Rows are only duplicates
+	 * if they match in every one of the columns. Any duplicates are logged with the rows they are in.
 	 * 
 	 * @param columnHeaders string[] the array of column name to validate
 	 * @return boolean true if all cells values are unique, false if any duplicates
 	 */
 	public boolean verifyRowCellsAreUnique(String[] columnHeaders) {
+		var tableSnapshot = getOrCreateSnapshot();
+		return verifyNoDuplicateRows(tableSnapshot, columnHeaders, getColumnIndexes(tableSnapshot, columnHeaders));
+	}
 
-		getOrCreateHeaders();
-		getOrCreateRows();
-		List<Integer> indexes = new ArrayList<>();
-		for (String columnHeader : columnHeaders) {
-			if (!verifyColumnHeaderEquals(columnHeader, false)) {
-				String errorMessage = SentinelStringUtils.format("Column header \"{}\" does not exist.", columnHeader);
+	/**
+	 * Returns the rows that have the same values as an earlier row in all of the given columns.
+	 * 
+	 * @param columnHeaders String... the names of the columns that together should be unique
+	 * @return List&lt;List&lt;Integer&gt;&gt; one list of row indexes, starting at 0, for each set of rows that share the same values; empty if there are no duplicates
+	 * @throws NoSuchElementException if any of the columns does not exist
+	 */
+	public List<List<Integer>> findDuplicateRows(String... columnHeaders) {
+		var tableSnapshot = getOrCreateSnapshot();
+		return tableSnapshot.findDuplicateRows(getColumnIndexes(tableSnapshot, columnHeaders));
+	}
+
+	private static int[] getColumnIndexes(TableSnapshot tableSnapshot, String[] columnHeaders) {
+		int[] columnIndexes = new int[columnHeaders.length];
+		for (int i = 0; i < columnHeaders.length; i++) {
+			columnIndexes[i] = tableSnapshot.getColumnIndex(columnHeaders[i]);
+			if (columnIndexes[i] == -1) {
+				String errorMessage = SentinelStringUtils.format("Column header \"{}\" does not exist.", columnHeaders[i]);
 				log.error(errorMessage);
 				throw new NoSuchElementException(errorMessage);
 			}
-			for (int i = 0; i < headers.size(); i++) {
-
-				if (columnHeader.equals(headers.get(i)))
-					indexes.add(i);
-			}
 		}
-		for (List<String> cells : rows) {
-
-			String cellValue = getCellsValue(indexes, cells);
-
-			int count = 0;
-			for (List<String> cells2 : rows) {
-				String cellValue2 = getCellsValue(indexes, cells2);
-				if (cellValue2.contains(cellValue)) {
-					count++;
-				}
-				if (count > 1) {
-					log.trace("False result returned. Header text: {} | Cell data: {}", indexes, cellValue);
-					return false;
-				}
-			}
-		}
-
-		return true;
+		return columnIndexes;
 	}
 
 	/**
-	 * Returns all the cells values in the listed columns
+	 * Returns true if no two rows have the same values in all of the given columns, logging the duplicates otherwise.
 	 * 
-	 * @param indexes List&lt;Integer&gt; listed column index
-	 * @param cells List&lt;String&gt; row cells
-	 * @return String of listed columns row values
-	 */
-	private String getCellsValue(List<Integer> indexes, List<String> cells) {
-		String cellValues = "";
-		for (int index = 0; index < indexes.size(); index++) {
-			cellValues = cellValues.concat(cells.get(indexes.get(index)));
+	 * @param tableSnapshot TableSnapshot the data in the table
+	 * @param columnHeaders String[] the names of the columns, used in the log
+	 * @param columnIndexes int[] the indexes of the columns, starting at 0
+	 * @return boolean true if all rows are unique, false if any duplicates
+	 */
+	private boolean verifyNoDuplicateRows(TableSnapshot tableSnapshot, String[] columnHeaders, int[] columnIndexes) {
+		var duplicateRows = tableSnapshot.findDuplicateRows(columnIndexes);
+		if (duplicateRows.isEmpty())
+			return true;
+
+		List<String> duplicates = new ArrayList<>(duplicateRows.size());
+		for (List<Integer> rows : duplicateRows) {
+			List<String> values = new ArrayList<>(columnIndexes.length);
+			for (int columnIndex : columnIndexes) {
+				values.add(tableSnapshot.getCell(columnIndex, rows.get(0)));
+			}
+			duplicates.add(values + " in rows " + rows.stream().map(rowIndex -> String.valueOf(rowIndex + 1)).collect(Collectors.joining(", ")));
 		}
-		return cellValues;
+		log.error("False result returned. Found {} duplicate values in the {} column(s) of the {} table: {}",
+				duplicateRows.size(), String.join(", ", columnHeaders), getName(), String.join("; ", duplicates));
+		return false;
 	}
 
 	/**
@@ -1007,26 +1293,58 @@ public class Table extends Element {
 		}
 	}
 
+	/**
+	 * Returns the numbers in the given column, parsed using the locale set with the numberLocale property.
+	 * The column is only parsed once for each time the table is read.
+	 *
+	 * @param columnHeader String name of the column
+	 * @return NumericColumn the numbers in the column
+	 * @throws NoSuchElementException if the column does not exist
+	 * @throws NumberFormatException if any cell in the column is not a number
+	 */
+	public NumericColumn getNumericColumn(String columnHeader) {
+		var tableSnapshot = getOrCreateSnapshot();
+		int columnIndex = tableSnapshot.getColumnIndex(columnHeader);
+		if (columnIndex == -1) {
+			String errorMessage = SentinelStringUtils.format("{} column does not exist.", columnHeader);
+			log.error(errorMessage);
+			throw new NoSuchElementException(errorMessage);
+		}
+		return tableSnapshot.getNumericColumn(columnIndex, NumericColumn.getConfiguredLocale());
+	}
+
 	/**
 	 * Compares all values in the given column to the given referenceNumber, using the given comparisonType.
-	 * Converts all values in the given column to double.
-	 * Valid comparisonType values = {"less than", "greater than"}. Any other value of comparisonType will make this method perform an "equals" comparison.
+	 * Values are read as numbers using the locale set with the numberLocale property.
+	 * Valid comparisonType values = {"less than", "greater than", "equal to"}.
 	 * @param columnHeader String name of the column
-	 * @param comparisonType String type of comparison to perform. Valid values are "less than", "greater than". Any other string will force an "equals" comparison.
+	 * @param comparisonType String type of comparison to perform. Valid values are "less than", "greater than", "equal to".
 	 * @param referenceNumber double the number to compare against.
 	 * @return boolean true if all values in the column satisfy the given comparison. false otherwise.
+	 * @throws IllegalArgumentException if the comparison type is not known
 	 */
 	public boolean verifyNumericValuesInWholeColumn(String columnHeader, String comparisonType, double referenceNumber){
-		var allColumnData = getAllCellDataForColumn(columnHeader).stream().map(Double::parseDouble).collect(Collectors.toList());
-		switch (comparisonType.toLowerCase()){
-			case "less than":
-				return allColumnData.stream().allMatch(cellValue -> cellValue < referenceNumber);
-			case "greater than":
-				return allColumnData.stream().allMatch(cellValue -> cellValue > referenceNumber);
-			case "equal to":
-				return allColumnData.stream().allMatch(cellValue -> cellValue == referenceNumber);
-			default:
-				throw new IllegalArgumentException(SentinelStringUtils.format("Unknown comparison type '{}'. Cannot compare column values.", comparisonType));
-		}
+		return getNumericColumn(columnHeader).allMatch(comparisonType, referenceNumber);
+	}
+
+	/**
+	 * Returns true if all values in the given column are between the two numbers, inclusive.
+	 * @param columnHeader String name of the column
+	 * @param low double the smallest value allowed
+	 * @param high double the largest value allowed
+	 * @return boolean true if all values in the column are in the range. false otherwise.
+	 */
+	public boolean verifyNumericValuesInWholeColumnBetween(String columnHeader, double low, double high){
+		return getNumericColumn(columnHeader).allBetween(low, high);
+	}
+
+	/**
+	 * Returns true if the values in the given column add up to the given total, allowing for rounding errors.
+	 * @param columnHeader String name of the column
+	 * @param expectedTotal double the total the values should add up to
+	 * @return boolean true if the values add up to the total. false otherwise.
+	 */
+	public boolean verifyNumericValuesInWholeColumnSumTo(String columnHeader, double expectedTotal){
+		return getNumericColumn(columnHeader).sumEquals(expectedTotal);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The differences between two versions of a table: the rows added, removed and changed, and whether the headers or
+ * the order of the rows changed. Rows are matched in a single pass over each table. If both tables were fingerprinted
+ * with the same key column, rows are matched by key, so a row with the same key and different data is reported as
+ * changed. Otherwise rows are matched by their hash, so a changed row is reported as one row removed and one added.
+ *
+ * @see com.dougnoel.sentinel.elements.tables.TableFingerprint
+ */
+public class TableDiff {
+	private final TableFingerprint before;
+	private final TableFingerprint after;
+	private final boolean headersChanged;
+	private final boolean orderChanged;
+	private final List<Integer> addedRows = new ArrayList<>();
+	private final List<Integer> removedRows = new ArrayList<>();
+	private final List<Integer> changedRows = new ArrayList<>();
+
+	/**
+	 * Compares two versions of a table.
+	 *
+	 * @param before TableFingerprint the table as it was
+	 * @param after TableFingerprint the table as it is now
+	 */
+	public TableDiff(TableFingerprint before, TableFingerprint after) {
+		this.before = before;
+		this.after = after;
+		headersChanged = !before.getHeaders().equals(after.getHeaders());
+
+		if (before.getKeyColumn() != null && before.getKeyColumn().equals(after.getKeyColumn()))
+			compareByKey();
+		else
+			compareByHash();
+
+		orderChanged = addedRows.isEmpty() && removedRows.isEmpty() && changedRows.isEmpty() && !before.matches(after) && !headersChanged;
+	}
+
+	/**
+	 * Matches the rows of the two tables by the text in their key column. Rows that share a key are matched in order.
+	 */
+	private void compareByKey() {
+		Map<String, Deque<Integer>> rowsByKey = new HashMap<>();
+		for (int rowIndex = 0; rowIndex < before.getNumberOfRows(); rowIndex++) {
+			rowsByKey.computeIfAbsent(before.getKey(rowIndex), key -> new ArrayDeque<>()).add(rowIndex);
+		}
+		for (int rowIndex = 0; rowIndex < after.getNumberOfRows(); rowIndex++) {
+			Deque<Integer> matches = rowsByKey.get(after.getKey(rowIndex));
+			Integer match = matches == null ? null : matches.poll();
+			if (match == null)
+				addedRows.add(rowIndex);
+			else if (before.getRowHash(match) != after.getRowHash(rowIndex))
+				changedRows.add(rowIndex);
+		}
+		rowsByKey.values().forEach(removedRows::addAll);
+		Collections.sort(removedRows);
+	}
+
+	/**
+	 * Matches the rows of the two tables by their hash. Identical rows are matched in order.
+	 */
+	private void compareByHash() {
+		Map<Long, Deque<Integer>> rowsByHash = new HashMap<>();
+		for (int rowIndex = 0; rowIndex < before.getNumberOfRows(); rowIndex++) {
+			rowsByHash.computeIfAbsent(before.getRowHash(rowIndex), hash -> new ArrayDeque<>()).add(rowIndex);
+		}
+		for (int rowIndex = 0; rowIndex < after.getNumberOfRows(); rowIndex++) {
+			Deque<Integer> matches = rowsByHash.get(after.getRowHash(rowIndex));
+			if (matches == null || matches.poll() == null)
+				addedRows.add(rowIndex);
+		}
+		rowsByHash.values().forEach(removedRows::addAll);
+		Collections.sort(removedRows);
+	}
+
+	/**
+	 * Returns true if the tables have the same headers and the same rows in the same order.
+	 *
+	 * @return boolean true if nothing changed
+	 */
+	public boolean isEmpty() {
+		return !headersChanged && !orderChanged && addedRows.isEmpty() && removedRows.isEmpty() && changedRows.isEmpty();
+	}
+
+	/**
+	 * Returns true if the headers of the table changed.
+	 *
+	 * @return boolean true if the headers changed
+	 */
+	public boolean headersChanged() {
+		return headersChanged;
+	}
+
+	/**
+	 * Returns true if the tables have the same rows, but in a different order.
+	 *
+	 * @return boolean true if only the order of the rows changed
+	 */
+	public boolean orderChanged() {
+		return orderChanged;
+	}
+
+	/**
+	 * Returns the indexes of the rows in the new table that are not in the old one.
+	 *
+	 * @return List&lt;Integer&gt; the indexes of the added rows, starting at 0
+	 */
+	public List<Integer> getAddedRows() {
+		return Collections.unmodifiableList(addedRows);
+	}
+
+	/**
+	 * Returns the indexes of the rows in the old table that are not in the new one.
+	 *
+	 * @return List&lt;Integer&gt; the indexes of the removed rows, starting at 0
+	 */
+	public List<Integer> getRemovedRows() {
+		return Collections.unmodifiableList(removedRows);
+	}
+
+	/**
+	 * Returns the indexes of the rows in the new table that have the same key as a row in the old table but
+	 * different data. Always empty unless both tables have the same key column.
+	 *
+	 * @return List&lt;Integer&gt; the indexes of the changed rows, starting at 0
+	 */
+	public List<Integer> getChangedRows() {
+		return Collections.unmodifiableList(changedRows);
+	}
+
+	@Override
+	public String toString() {
+		if (isEmpty())
+			return "No differences.";
+		List<String> differences = new ArrayList<>();
+		if (headersChanged)
+			differences.add("Headers changed from " + before.getHeaders() + " to " + after.getHeaders() + ".");
+		if (orderChanged)
+			differences.add("The same rows are shown in a different order.");
+		if (!addedRows.isEmpty())
+			differences.add(describe(addedRows.size(), "added", addedRows, after));
+		if (!removedRows.isEmpty())
+			differences.add(describe(removedRows.size(), "removed", removedRows, before));
+		if (!changedRows.isEmpty())
+			differences.add(describe(changedRows.size(), "changed", changedRows, after));
+		return String.join(" ", differences);
+	}
+
+	private static String describe(int count, String change, List<Integer> rowIndexes, TableFingerprint table) {
+		List<String> rows = new ArrayList<>(rowIndexes.size());
+		for (int rowIndex : rowIndexes) {
+			String row = "row " + (rowIndex + 1);
+			if (table.getKeyColumn() != null)
+				row += " (" + table.getKeyColumn() + ": " + table.getKey(rowIndex) + ")";
+			if (table.hasData())
+				row += " " + table.getRow(rowIndex);
+			rows.add(row);
+		}
+		return count + (count == 1 ? " row " : " rows ") + change + ": " + String.join(", ", rows) + ".";
+	}
+}
@@ -0,0 +1,173 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.openqa.selenium.NoSuchElementException;
+
+import com.dougnoel.sentinel.strings.SentinelStringUtils;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * A compact record of the data in a table at the time it was read, used to tell later whether the table has changed
+ * and how. Only the headers and a 64 bit hash of each row are kept, along with the text of a key column if one is
+ * given, so that many pages of a table can be stored without holding all of their data. The full data can be kept as
+ * well, so that the rows that changed can be shown when the table is compared.
+ *
+ * @see com.dougnoel.sentinel.elements.tables.TableDiff
+ */
+public class TableFingerprint {
+	private final List<String> headers;
+	private final long[] rowHashes;
+	private final String keyColumn;
+	private final String[] keys;
+	private final TableSnapshot data;
+
+	private TableFingerprint(List<String> headers, long[] rowHashes, String keyColumn, String[] keys, TableSnapshot data) {
+		this.headers = headers;
+		this.rowHashes = rowHashes;
+		this.keyColumn = keyColumn;
+		this.keys = keys;
+		this.data = data;
+	}
+
+	/**
+	 * Creates a fingerprint of the given table data.
+	 *
+	 * @param snapshot TableSnapshot the data in the table
+	 * @param keyColumn String the header of a column with a different value in every row, or null if there is none
+	 * @param keepData boolean true to keep the full data of the table as well as the row hashes
+	 * @return TableFingerprint the fingerprint of the table
+	 * @throws NoSuchElementException if the key column does not exist
+	 */
+	public static TableFingerprint of(TableSnapshot snapshot, String keyColumn, boolean keepData) {
+		int numberOfRows = snapshot.getNumberOfRows();
+		long[] rowHashes = new long[numberOfRows];
+		for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+			rowHashes[rowIndex] = hash(snapshot.getRow(rowIndex));
+		}
+
+		String[] keys = null;
+		if (keyColumn != null) {
+			int keyIndex = snapshot.getColumnIndex(keyColumn);
+			if (keyIndex == -1)
+				throw new NoSuchElementException(SentinelStringUtils.format("{} column does not exist.", keyColumn));
+			keys = new String[numberOfRows];
+			for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+				keys[rowIndex] = snapshot.getCell(keyIndex, rowIndex);
+			}
+		}
+
+		return new TableFingerprint(snapshot.getHeaders(), rowHashes, keyColumn, keys, keepData ? snapshot : null);
+	}
+
+	/**
+	 * Returns a 64 bit hash of the cells in a row. Each cell is prefixed with its length so that moving text from one
+	 * cell to the next changes the hash.
+	 *
+	 * @param row List&lt;String&gt; the cells in the row
+	 * @return long the hash of the row
+	 */
+	static long hash(List<String> row) {
+		Hasher hasher = Hashing.murmur3_128().newHasher();
+		for (String cell : row) {
+			if (cell == null) {
+				hasher.putInt(-1);
+			} else {
+				hasher.putInt(cell.length());
+				hasher.putString(cell, StandardCharsets.UTF_8);
+			}
+		}
+		return hasher.hash().asLong();
+	}
+
+	/**
+	 * Returns the column headers of the table.
+	 *
+	 * @return List&lt;String&gt; an unmodifiable list of the column headers
+	 */
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the number of rows in the table.
+	 *
+	 * @return int the number of rows
+	 */
+	public int getNumberOfRows() {
+		return rowHashes.length;
+	}
+
+	/**
+	 * Returns the hash of a row.
+	 *
+	 * @param rowIndex int the index of the row, starting at 0
+	 * @return long the hash of the row
+	 */
+	public long getRowHash(int rowIndex) {
+		return rowHashes[rowIndex];
+	}
+
+	/**
+	 * Returns the header of the key column, or null if no key column was given.
+	 *
+	 * @return String the header of the key column
+	 */
+	public String getKeyColumn() {
+		return keyColumn;
+	}
+
+	/**
+	 * Returns the text in the key column of a row, or null if no key column was given.
+	 *
+	 * @param rowIndex int the index of the row, starting at 0
+	 * @return String the key of the row
+	 */
+	public String getKey(int rowIndex) {
+		return keys == null ? null : keys[rowIndex];
+	}
+
+	/**
+	 * Returns the cells in a row if the full data was kept.
+	 *
+	 * @param rowIndex int the index of the row, starting at 0
+	 * @return List&lt;String&gt; the cells in the row, or an empty list if the full data was not kept
+	 */
+	public List<String> getRow(int rowIndex) {
+		return data == null ? Collections.emptyList() : data.getRow(rowIndex);
+	}
+
+	/**
+	 * Returns true if the full data of the table was kept.
+	 *
+	 * @return boolean true if the rows can be returned
+	 */
+	public boolean hasData() {
+		return data != null;
+	}
+
+	/**
+	 * Returns true if the given fingerprint has the same headers and the same rows in the same order.
+	 *
+	 * @param other TableFingerprint the fingerprint to compare with
+	 * @return boolean true if the tables match
+	 */
+	public boolean matches(TableFingerprint other) {
+		return other != null && headers.equals(other.headers) && Arrays.equals(rowHashes, other.rowHashes);
+	}
+
+	@Override
+	public String toString() {
+		List<String> summary = new ArrayList<>();
+		summary.add("Headers: " + headers);
+		summary.add("Rows: " + rowHashes.length);
+		if (keyColumn != null)
+			summary.add("Key column: " + keyColumn);
+		return String.join(" ", summary);
+	}
+}
@@ -0,0 +1,160 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import com.dougnoel.sentinel.system.FileManager;
+
+/**
+ * Reads the rows of a table a screen at a time, scrolling the table as it goes, so that tables that only render the
+ * rows in view (e.g. ngx-datatable with virtual scrolling) can be read in full. Rows are read only as they are asked
+ * for, so a caller that stops early never scrolls through the rest of the table. Because a row can be read more than
+ * once as the table scrolls, each row is identified by a key and only returned the first time it is seen. The key is
+ * the text of a key column if one is given, otherwise the position of the row in the scrolled content.
+ */
+final class TableRowReader implements Iterator<List<String>> {
+	private static final Logger log = LogManager.getLogger(TableRowReader.class);
+	private static final String TABLE_ROW_CHUNK_SCRIPT = "src/main/resources/scripts/TableRowChunk.js";
+	private static String tableRowChunkScript = null;
+
+	private final Table table;
+	private final WebElement tableElement;
+	private final WebDriver driver;
+	private final String keyColumn;
+	private final Deque<List<String>> buffer = new ArrayDeque<>();
+	private final Set<String> seenKeys = new HashSet<>();
+	private List<String> headers = null;
+	private List<String> firstRow = null;
+	private WebElement scrollContainer = null;
+	private Object originalScrollTop = null;
+	private boolean atEnd = false;
+	private int chunks = 0;
+
+	/**
+	 * Creates a reader for the given table. Nothing is read until the headers or the first row are asked for.
+	 *
+	 * @param table Table the table to read
+	 * @param tableElement WebElement the element of the table on the page
+	 * @param driver WebDriver the driver used to run the script that reads the table
+	 * @param keyColumn String the header of the column that identifies each row, or null to identify rows by position
+	 */
+	TableRowReader(Table table, WebElement tableElement, WebDriver driver, String keyColumn) {
+		this.table = table;
+		this.tableElement = tableElement;
+		this.driver = driver;
+		this.keyColumn = keyColumn;
+	}
+
+	/**
+	 * Returns the headers of the table, reading the first screen of rows if nothing has been read yet.
+	 *
+	 * @return List&lt;String&gt; the headers of the table
+	 */
+	List<String> getHeaders() {
+		if (headers == null && !atEnd)
+			readChunk();
+		return headers == null ? Collections.emptyList() : headers;
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (buffer.isEmpty() && !atEnd) {
+			readChunk();
+		}
+		return !buffer.isEmpty();
+	}
+
+	@Override
+	public List<String> next() {
+		if (!hasNext())
+			throw new java.util.NoSuchElementException();
+		return buffer.poll();
+	}
+
+	/**
+	 * Scrolls the table back to where it was before it was read. Does nothing if the table has not been read.
+	 */
+	void restoreScrollPosition() {
+		if (scrollContainer == null)
+			return;
+		try {
+			((JavascriptExecutor) driver).executeScript("arguments[0].scrollTop = arguments[1];", scrollContainer, originalScrollTop);
+		} catch (WebDriverException e) {
+			log.trace("Unable to scroll the {} table back to where it was. Error: {}", table.getName(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Reads the rows rendered now, adds the ones not seen before to the buffer and scrolls the table down a screen.
+	 *
+	 * @throws com.dougnoel.sentinel.exceptions.IOException if the script used to read the table cannot be loaded
+	 */
+	@SuppressWarnings("unchecked")
+	private void readChunk() {
+		boolean firstCall = chunks == 0;
+		String script;
+		try {
+			script = getTableRowChunkScript();
+		} catch (IOException e) {
+			throw new com.dougnoel.sentinel.exceptions.IOException("Unable to load the script used to read the table.", e);
+		}
+		var result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(script,
+				tableElement, table.tableHeaderTag, table.tableRowLocator, table.tableCellDataTag,
+				table.tableDataCellLocator, keyColumn, firstCall, scrollContainer);
+		chunks++;
+
+		if (result.containsKey("error"))
+			throw new NoSuchElementException(result.get("error").toString());
+		if (firstCall) {
+			scrollContainer = (WebElement) result.get("container");
+			originalScrollTop = result.get("originalScrollTop");
+		}
+
+		headers = new ArrayList<>();
+		((List<Object>) result.get("headers")).forEach(header -> headers.add(header.toString()));
+		int newRows = 0;
+		for (Map<String, Object> row : (List<Map<String, Object>>) result.get("rows")) {
+			if (seenKeys.add(row.get("key").toString())) {
+				List<String> cells = new ArrayList<>();
+				((List<Object>) row.get("cells")).forEach(cell -> cells.add(cell == null ? "" : cell.toString()));
+				buffer.add(cells);
+				newRows++;
+			}
+		}
+		if (firstRow == null && !buffer.isEmpty())
+			firstRow = buffer.peekFirst();
+		// As with the rest of the table, use the first row for headers if there are no header tags.
+		if (headers.isEmpty() && firstRow != null)
+			firstRow.forEach(cell -> headers.add(cell.replaceAll("[\\t\\n\\r]+", " ").strip()));
+		atEnd = Boolean.TRUE.equals(result.get("atEnd"));
+		log.trace("Read {} new rows from screen {} of the {} table.{}", newRows, chunks, table.getName(), atEnd ? " Reached the end of the table." : "");
+	}
+
+	/**
+	 * Returns the script used to read a screen of a table, loading it the first time it is needed.
+	 *
+	 * @return String the javascript to execute
+	 * @throws IOException if the script cannot be loaded
+	 */
+	private static String getTableRowChunkScript() throws IOException {
+		if (tableRowChunkScript == null)
+			tableRowChunkScript = FileManager.loadJavascript(TABLE_ROW_CHUNK_SCRIPT);
+		return tableRowChunkScript;
+	}
+}
@@ -0,0 +1,312 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.dougnoel.sentinel.math.NumericColumn;
+
+/**
+ * An immutable copy of the data in a table at the time it was read. Cells are stored by column so that
+ * all the cells of a column can be returned without copying them, and column headers are indexed so that
+ * a column can be found by name in constant time.
+ * <p>
+ * Rows that are shorter than the widest row have null values for the cells they are missing. Those
+ * cells are left out when a column is returned, matching what would be found by searching the table
+ * for every cell in that column.
+ * <p>
+ * Columns that are read as numbers are parsed the first time they are asked for and kept, so checking
+ * the same column more than once does not parse it again.
+ */
+public class TableSnapshot {
+	private final List<String> headers;
+	private final Map<String, Integer> headerIndexes;
+	private final String[][] columns;
+	private final int numberOfRows;
+	private final boolean hasMissingCells;
+	private final Map<Integer, NumericColumn> numericColumns = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a snapshot of a table from its headers and the cells of each of its rows.
+	 *
+	 * @param headers List&lt;String&gt; the text of the column headers
+	 * @param rows List&lt;? extends List&lt;String&gt;&gt; the text of every cell, one list per row
+	 */
+	public TableSnapshot(List<String> headers, List<? extends List<String>> rows) {
+		this.headers = Collections.unmodifiableList(new ArrayList<>(headers));
+
+		Map<String, Integer> indexes = new HashMap<>();
+		for (int i = 0; i < headers.size(); i++) {
+			indexes.put(headers.get(i), i);
+		}
+		headerIndexes = Collections.unmodifiableMap(indexes);
+
+		int numberOfColumns = headers.size();
+		for (List<String> row : rows) {
+			numberOfColumns = Math.max(numberOfColumns, row.size());
+		}
+
+		numberOfRows = rows.size();
+		columns = new String[numberOfColumns][numberOfRows];
+		boolean missingCells = false;
+		for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+			List<String> row = rows.get(rowIndex);
+			if (row.size() < numberOfColumns)
+				missingCells = true;
+			for (int columnIndex = 0; columnIndex < row.size(); columnIndex++) {
+				columns[columnIndex][rowIndex] = row.get(columnIndex);
+			}
+		}
+		hasMissingCells = missingCells;
+	}
+
+	/**
+	 * Returns the column headers in the order they appear in the table.
+	 *
+	 * @return List&lt;String&gt; an unmodifiable list of the column headers
+	 */
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Returns the number of rows read from the table.
+	 *
+	 * @return int the number of rows
+	 */
+	public int getNumberOfRows() {
+		return numberOfRows;
+	}
+
+	/**
+	 * Returns the number of columns in the table. This is the larger of the number of headers and the number
+	 * of cells in the widest row.
+	 *
+	 * @return int the number of columns
+	 */
+	public int getNumberOfColumns() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns the index of the column with the given header, starting at 0. If more than one column has
+	 * the header, such as blank headers over checkbox and action columns, the last of them is used.
+	 *
+	 * @param columnHeader String the header of the column
+	 * @return int the index of the column, or -1 if there is no column with that header
+	 */
+	public int getColumnIndex(String columnHeader) {
+		return headerIndexes.getOrDefault(columnHeader, -1);
+	}
+
+	/**
+	 * Returns true if the table has a column with the given header.
+	 *
+	 * @param columnHeader String the header of the column
+	 * @return boolean true if the column exists, false otherwise
+	 */
+	public boolean hasColumn(String columnHeader) {
+		return headerIndexes.containsKey(columnHeader);
+	}
+
+	/**
+	 * Returns the cells in the given column, skipping any rows that do not have a cell in that column.
+	 *
+	 * @param columnIndex int the index of the column, starting at 0
+	 * @return List&lt;String&gt; an unmodifiable list of the cells in the column
+	 */
+	public List<String> getColumn(int columnIndex) {
+		String[] column = columns[columnIndex];
+		if (!hasMissingCells)
+			return Collections.unmodifiableList(Arrays.asList(column));
+
+		List<String> cells = new ArrayList<>(numberOfRows);
+		for (String cell : column) {
+			if (cell != null)
+				cells.add(cell);
+		}
+		return Collections.unmodifiableList(cells);
+	}
+
+	/**
+	 * Returns the cells in the column with the given header, or null if there is no such column.
+	 *
+	 * @param columnHeader String the header of the column
+	 * @return List&lt;String&gt; an unmodifiable list of the cells in the column, or null if the column does not exist
+	 */
+	public List<String> getColumn(String columnHeader) {
+		int columnIndex = getColumnIndex(columnHeader);
+		return columnIndex == -1 ? null : getColumn(columnIndex);
+	}
+
+	/**
+	 * Returns the numbers in the given column, skipping any rows that do not have a cell in that column.
+	 * The column is parsed once per locale and kept for later calls.
+	 *
+	 * @param columnIndex int the index of the column, starting at 0
+	 * @param locale Locale the locale the numbers are written in
+	 * @return NumericColumn the numbers in the column
+	 * @throws NumberFormatException if any cell in the column is not a number
+	 */
+	public NumericColumn getNumericColumn(int columnIndex, Locale locale) {
+		return numericColumns.compute(columnIndex, (index, column) ->
+				column == null || !column.getLocale().equals(locale) ? NumericColumn.parse(getColumn(index), locale) : column);
+	}
+
+	/**
+	 * Finds the rows that have the same text as an earlier row in all of the given columns. The table is read
+	 * in a single pass using an open addressing hash table of row indexes, so rows are compared cell by cell
+	 * without building a key for each row. Rows that do not have a cell in one of the columns are skipped.
+	 *
+	 * @param columnIndexes int... the indexes of the columns that together should be unique, starting at 0
+	 * @return List&lt;List&lt;Integer&gt;&gt; one list of row indexes, starting at 0, for each set of rows that share
+	 * the same values, in the order the first row of each set appears; empty if every row is unique
+	 */
+	public List<List<Integer>> findDuplicateRows(int... columnIndexes) {
+		int capacity = Integer.highestOneBit(Math.max(numberOfRows, 1) * 2 - 1) << 1; // At most half full.
+		int mask = capacity - 1;
+		int[] slots = new int[capacity];
+		int[] slotHashes = new int[capacity];
+		Arrays.fill(slots, -1);
+		Map<Integer, List<Integer>> duplicates = new LinkedHashMap<>();
+
+		rows:
+		for (int rowIndex = 0; rowIndex < numberOfRows; rowIndex++) {
+			int hash = 1;
+			for (int columnIndex : columnIndexes) {
+				String cell = columns[columnIndex][rowIndex];
+				if (cell == null)
+					continue rows;
+				hash = 31 * hash + cell.hashCode();
+			}
+			int mixed = hash * 0x9E3779B9;
+			int slot = (mixed ^ (mixed >>> 16)) & mask;
+			while (slots[slot] != -1) {
+				int firstRow = slots[slot];
+				if (slotHashes[slot] == hash && haveSameCells(firstRow, rowIndex, columnIndexes)) {
+					duplicates.computeIfAbsent(firstRow, first -> new ArrayList<>(List.of(first))).add(rowIndex);
+					continue rows;
+				}
+				slot = (slot + 1) & mask;
+			}
+			slots[slot] = rowIndex;
+			slotHashes[slot] = hash;
+		}
+		return new ArrayList<>(duplicates.values());
+	}
+
+	private boolean haveSameCells(int rowIndex, int otherRowIndex, int[] columnIndexes) {
+		for (int columnIndex : columnIndexes) {
+			if (!columns[columnIndex][rowIndex].equals(columns[columnIndex][otherRowIndex]))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the text of a single cell.
+	 *
+	 * @param columnIndex int the index of the column, starting at 0
+	 * @param rowIndex int the index of the row, starting at 0
+	 * @return String the text of the cell, or null if the row does not have a cell in that column
+	 */
+	public String getCell(int columnIndex, int rowIndex) {
+		return columns[columnIndex][rowIndex];
+	}
+
+	/**
+	 * Returns a read-only view of the cells in a row, without any trailing cells the row is missing.
+	 *
+	 * @param rowIndex int the index of the row, starting at 0
+	 * @return List&lt;String&gt; the cells in the row
+	 */
+	public List<String> getRow(int rowIndex) {
+		int rowLength = columns.length;
+		while (rowLength > 0 && columns[rowLength - 1][rowIndex] == null) {
+			rowLength--;
+		}
+		final int size = rowLength;
+		return new AbstractList<String>() {
+			@Override
+			public String get(int columnIndex) {
+				if (columnIndex >= size)
+					throw new IndexOutOfBoundsException(columnIndex);
+				return columns[columnIndex][rowIndex];
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Returns the rows of the table after some of them have been read again. Each row that is null in the given
+	 * list has not changed and is taken from this snapshot, and every other row is used as it is. This snapshot is
+	 * not changed, so snapshots that have been stored stay as they were.
+	 *
+	 * @param changedRows List&lt;? extends List&lt;String&gt;&gt; the rows read again, with null for each row that has not changed
+	 * @return List&lt;List&lt;String&gt;&gt; every row of the table as it is now
+	 * @throws IllegalArgumentException if a row that has not changed is not in this snapshot
+	 */
+	public List<List<String>> mergeRows(List<? extends List<String>> changedRows) {
+		List<List<String>> rows = new ArrayList<>(changedRows.size());
+		for (int rowIndex = 0; rowIndex < changedRows.size(); rowIndex++) {
+			List<String> row = changedRows.get(rowIndex);
+			if (row == null) {
+				if (rowIndex >= numberOfRows)
+					throw new IllegalArgumentException("Row " + rowIndex + " is marked as unchanged but the table only had " + numberOfRows + " rows.");
+				row = getRow(rowIndex);
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns a read-only view of every row in the table.
+	 *
+	 * @return List&lt;List&lt;String&gt;&gt; the rows of the table
+	 */
+	public List<List<String>> getRows() {
+		return new AbstractList<List<String>>() {
+			@Override
+			public List<String> get(int rowIndex) {
+				return getRow(rowIndex);
+			}
+
+			@Override
+			public int size() {
+				return numberOfRows;
+			}
+		};
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (!(other instanceof TableSnapshot))
+			return false;
+		var snapshot = (TableSnapshot) other;
+		return headers.equals(snapshot.headers) && Arrays.deepEquals(columns, snapshot.columns);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * headers.hashCode() + Arrays.deepHashCode(columns);
+	}
+
+	@Override
+	public String toString() {
+		return "Headers: " + headers + " Rows: " + getRows();
+	}
+}
@@ -0,0 +1,15 @@
+package com.dougnoel.sentinel.enums;
+
+/**
+ * The ways Sentinel tries to click an element, in the order they are tried when no strategy
+ * has been remembered for the element.
+ * 
+ * NATIVE - WebDriver click once the element is clickable
+ * HOVER - Move the mouse over the element, then WebDriver click
+ * JAVASCRIPT - Call click() on the element in the page. Never remembered, because it works even when the element is covered.
+ */
+public enum ClickStrategy {
+	NATIVE,
+	HOVER,
+	JAVASCRIPT;
+}
@@ -7,11 +7,14 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.dougnoel.sentinel.exceptions.FileException;
+import com.dougnoel.sentinel.math.NumericColumn;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVParser;
@@ -29,6 +32,7 @@ public class CsvFile extends TestFile{
     private final int numHeaderRows;
 
     private List<List<String>> csvContents;
+    private transient Map<Integer, NumericColumn> numericColumns = null; // Parsed once per column until the file is written again. Created when first used.
 
     /**
      * Create default CSV file from most recently-downloaded path.
@@ -123,6 +127,7 @@ public class CsvFile extends TestFile{
 
     private void loadCsvFile(){
         csvContents = readAllFileContents();
+        numericColumns = null;
     }
 
     /**
@@ -221,6 +226,7 @@ public class CsvFile extends TestFile{
             throw new FileException(e, this);
         }
         csvContents = newFileContents;
+        numericColumns = null;
     }
 
     /**
@@ -457,4 +463,52 @@ public class CsvFile extends TestFile{
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns the numbers in the given column, parsed using the locale set with the numberLocale property.
+     * The column is only parsed once until the file is written again.
+     * @param columnHeader String name of the column.
+     * @return NumericColumn the numbers in the column.
+     * @throws NumberFormatException if any cell in the column is not a number.
+     */
+    public NumericColumn readNumericColumn(String columnHeader) {
+        return readNumericColumn(getColumnIndex(columnHeader));
+    }
+
+    /**
+     * Returns the numbers in the given column, parsed using the locale set with the numberLocale property.
+     * The column is only parsed once until the file is written again.
+     * @param columnIndex int index of the column, starting at 1.
+     * @return NumericColumn the numbers in the column.
+     * @throws NumberFormatException if any cell in the column is not a number.
+     */
+    public NumericColumn readNumericColumn(int columnIndex) {
+        var locale = NumericColumn.getConfiguredLocale();
+        if (numericColumns == null)
+            numericColumns = new HashMap<>();
+        return numericColumns.compute(columnIndex, (index, column) ->
+                column == null || !column.getLocale().equals(locale) ? NumericColumn.parse(readAllCellDataForColumn(index), locale) : column);
+    }
+
+    /**
+     * Compares all values in the given column to the given referenceNumber, using the given comparisonType.
+     * @param columnHeader String name of the column.
+     * @param comparisonType String type of comparison to perform. Valid values are "less than", "greater than", "equal to".
+     * @param referenceNumber double the number to compare against.
+     * @return boolean true if all values in the column satisfy the given comparison. false otherwise.
+     */
+    public boolean verifyNumericValuesInWholeColumn(String columnHeader, String comparisonType, double referenceNumber){
+        return verifyNumericValuesInWholeColumn(getColumnIndex(columnHeader), comparisonType, referenceNumber);
+    }
+
+    /**
+     * Compares all values in the given column to the given referenceNumber, using the given comparisonType.
+     * @param columnIndex int index of the column, starting at 1.
+     * @param comparisonType String type of comparison to perform. Valid values are "less than", "greater than", "equal to".
+     * @param referenceNumber double the number to compare against.
+     * @return boolean true if all values in the column satisfy the given comparison. false otherwise.
+     */
+    public boolean verifyNumericValuesInWholeColumn(int columnIndex, String comparisonType, double referenceNumber){
+        return readNumericColumn(columnIndex).allMatch(comparisonType, referenceNumber);
+    }
+
+}
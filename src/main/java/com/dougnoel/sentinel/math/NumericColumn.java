@@ -0,0 +1,261 @@
+package com.dougnoel.sentinel.math;
+
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.DoublePredicate;
+
+import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.strings.SentinelStringUtils;
+
+/**
+ * The numbers in a column of a table or file, parsed once into a primitive array so that checks over every cell do
+ * not parse or box the values again. Cells are parsed using the number format of a locale: grouping separators,
+ * currency symbols, percent signs and spaces are ignored, the locale's decimal separator is used, and a number in
+ * parentheses is negative, so "$1,234.50" and "(1,234.50)" are read in the US locale and "1.234,50 &euro;" in the
+ * German one.
+ * <p>
+ * The locale is US English by default. Change it by setting the numberLocale property to a language tag
+ * (e.g. de-DE) in the sentinel.yml config file or on the command line with the switch '-DnumberLocale=de-DE'.
+ */
+public final class NumericColumn {
+	private static final double SUM_TOLERANCE = 1e-9; // Relative difference allowed when comparing a sum of doubles.
+
+	private final double[] values;
+	private final Locale locale;
+
+	private NumericColumn(double[] values, Locale locale) {
+		this.values = values;
+		this.locale = locale;
+	}
+
+	/**
+	 * Parses the given cells using the configured locale.
+	 *
+	 * @param cells List&lt;String&gt; the text of each cell
+	 * @return NumericColumn the numbers in the cells
+	 * @throws NumberFormatException if any cell is not a number
+	 */
+	public static NumericColumn parse(List<String> cells) {
+		return parse(cells, getConfiguredLocale());
+	}
+
+	/**
+	 * Parses the given cells using the number format of the given locale.
+	 *
+	 * @param cells List&lt;String&gt; the text of each cell
+	 * @param locale Locale the locale the numbers are written in
+	 * @return NumericColumn the numbers in the cells
+	 * @throws NumberFormatException if any cell is not a number
+	 */
+	public static NumericColumn parse(List<String> cells, Locale locale) {
+		var symbols = DecimalFormatSymbols.getInstance(locale);
+		double[] values = new double[cells.size()];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = parseNumber(cells.get(i), symbols);
+		}
+		return new NumericColumn(values, locale);
+	}
+
+	/**
+	 * Returns the locale set with the numberLocale property, or US English if it is not set.
+	 *
+	 * @return Locale the locale numbers are written in
+	 */
+	public static Locale getConfiguredLocale() {
+		String languageTag = Configuration.toString("numberLocale");
+		return languageTag == null ? Locale.US : Locale.forLanguageTag(languageTag);
+	}
+
+	/**
+	 * Parses a number written in the configured locale.
+	 *
+	 * @param text String the number
+	 * @return double the number
+	 * @throws NumberFormatException if the text is not a number
+	 */
+	public static double parseNumber(String text) {
+		return parseNumber(text, DecimalFormatSymbols.getInstance(getConfiguredLocale()));
+	}
+
+	private static double parseNumber(String text, DecimalFormatSymbols symbols) {
+		if (text == null)
+			throw new NumberFormatException("Unable to read an empty cell as a number.");
+		String trimmed = text.strip();
+		boolean negative = trimmed.length() > 1 && trimmed.charAt(0) == '(' && trimmed.charAt(trimmed.length() - 1) == ')';
+		if (negative)
+			trimmed = trimmed.substring(1, trimmed.length() - 1);
+
+		var number = new StringBuilder(trimmed.length());
+		for (int i = 0; i < trimmed.length(); i++) {
+			char c = trimmed.charAt(i);
+			if (c == symbols.getDecimalSeparator())
+				number.append('.');
+			else if (c == symbols.getMinusSign() || c == '\u2212')
+				number.append('-');
+			else if (c != symbols.getGroupingSeparator() && c != '%' && !Character.isSpaceChar(c)
+					&& Character.getType(c) != Character.CURRENCY_SYMBOL)
+				number.append(c);
+		}
+
+		try {
+			double value = Double.parseDouble(number.toString());
+			return negative ? -value : value;
+		} catch (NumberFormatException e) {
+			throw new NumberFormatException(SentinelStringUtils.format("Unable to read \"{}\" as a number.", text));
+		}
+	}
+
+	/**
+	 * Returns the number of values in the column.
+	 *
+	 * @return int the number of values
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Returns a value in the column.
+	 *
+	 * @param index int the index of the value, starting at 0
+	 * @return double the value
+	 */
+	public double get(int index) {
+		return values[index];
+	}
+
+	/**
+	 * Returns the locale the column was parsed with.
+	 *
+	 * @return Locale the locale
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * Returns a copy of the values in the column.
+	 *
+	 * @return double[] the values
+	 */
+	public double[] toDoubleArray() {
+		return values.clone();
+	}
+
+	/**
+	 * Returns a copy of the values in the column as whole numbers.
+	 *
+	 * @return long[] the values
+	 * @throws ArithmeticException if any value is not a whole number
+	 */
+	public long[] toLongArray() {
+		long[] longValues = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			longValues[i] = (long) values[i];
+			if (longValues[i] != values[i])
+				throw new ArithmeticException(SentinelStringUtils.format("{} is not a whole number.", values[i]));
+		}
+		return longValues;
+	}
+
+	/**
+	 * Returns the smallest value in the column, or NaN if the column is empty.
+	 *
+	 * @return double the smallest value
+	 */
+	public double min() {
+		double min = values.length == 0 ? Double.NaN : values[0];
+		for (double value : values) {
+			min = Math.min(min, value);
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the largest value in the column, or NaN if the column is empty.
+	 *
+	 * @return double the largest value
+	 */
+	public double max() {
+		double max = values.length == 0 ? Double.NaN : values[0];
+		for (double value : values) {
+			max = Math.max(max, value);
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the sum of the values in the column. The sum is compensated for rounding errors, so adding up many
+	 * decimal amounts gives the same result as adding them by hand.
+	 *
+	 * @return double the sum
+	 */
+	public double sum() {
+		double sum = 0;
+		double compensation = 0;
+		for (double value : values) {
+			double adjusted = value - compensation;
+			double total = sum + adjusted;
+			compensation = (total - sum) - adjusted;
+			sum = total;
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns true if the values in the column add up to the given total, allowing for rounding errors.
+	 *
+	 * @param expectedTotal double the total the values should add up to
+	 * @return boolean true if the sum matches the total
+	 */
+	public boolean sumEquals(double expectedTotal) {
+		return Math.abs(sum() - expectedTotal) <= SUM_TOLERANCE * Math.max(1, Math.abs(expectedTotal));
+	}
+
+	/**
+	 * Returns true if every value in the column matches the predicate. Stops at the first value that does not.
+	 *
+	 * @param predicate DoublePredicate the test for each value
+	 * @return boolean true if every value matches
+	 */
+	public boolean allMatch(DoublePredicate predicate) {
+		for (double value : values) {
+			if (!predicate.test(value))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns true if every value in the column is in the given state relative to the reference number.
+	 *
+	 * @param comparisonType String "less than", "greater than" or "equal to"
+	 * @param referenceNumber double the number to compare each value to
+	 * @return boolean true if every value compares as expected
+	 * @throws IllegalArgumentException if the comparison type is not known
+	 */
+	public boolean allMatch(String comparisonType, double referenceNumber) {
+		switch (comparisonType.toLowerCase()) {
+			case "less than":
+				return allMatch(value -> value < referenceNumber);
+			case "greater than":
+				return allMatch(value -> value > referenceNumber);
+			case "equal to":
+				return allMatch(value -> value == referenceNumber);
+			default:
+				throw new IllegalArgumentException(SentinelStringUtils.format("Unknown comparison type '{}'. Cannot compare column values.", comparisonType));
+		}
+	}
+
+	/**
+	 * Returns true if every value in the column is between the two numbers, inclusive.
+	 *
+	 * @param low double the smallest value allowed
+	 * @param high double the largest value allowed
+	 * @return boolean true if every value is in the range
+	 */
+	public boolean allBetween(double low, double high) {
+		return allMatch(value -> value >= low && value <= high);
+	}
+}
@@ -69,8 +69,22 @@ public class Page extends YAMLObject {
 	/**
 	 * Clears the cached Table objects for this page. 
 	 * This action prevents StaleElementReferenceException when a table is referenced after previous navigation.
+	 * If incremental table refresh is turned on, the tables are kept and refreshed instead, so that only the rows
+	 * that changed are read again. Pages of a table saved with storeTable() are forgotten either way, so a stored
+	 * table is never compared with one read after navigating to the page again.
+	 * 
+	 * @see com.dougnoel.sentinel.elements.tables.Table#refresh()
 	 */
 	public void clearTables() {
+		if (Configuration.toBoolean("tableIncrementalRefresh")) {
+			elements.values().forEach(element -> {
+				if (element instanceof Table) {
+					((Table) element).refresh();
+					((Table) element).clearStoredTables();
+				}
+			});
+			return;
+		}
 		elements = elements.entrySet().stream()
 				.filter(
 						entry -> !(entry.getValue() instanceof Table))
@@ -6,11 +6,9 @@ import java.util.Map;
 import org.openqa.selenium.NoSuchElementException;
 
 import com.dougnoel.sentinel.configurations.YAMLData;
+import com.dougnoel.sentinel.configurations.YAMLDataCache;
 import com.dougnoel.sentinel.exceptions.FileException;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
 /**
  * The PageData class is a singleton class that encapsulates page configuration data into a usable  
@@ -18,6 +16,7 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
  * based on the given environment and the account map within that environment.
  */
 public class PageData extends YAMLData {
+	private static final long serialVersionUID = -5400425307390296478L;
 	public Map<String,String> executables;
 	public Map<String,Map<String,String>> elements;
 
@@ -34,24 +33,33 @@ public class PageData extends YAMLData {
 	}
 	
 	/**
-	 * Returns the usable PageData object from the given File object.
+	 * Returns the usable PageData object from the given File object. Files that have been loaded before are read
+	 * from the YAMLDataCache instead of being parsed again.
 	 * 
+	 * @see YAMLDataCache#load(File, Class, java.util.function.Function)
 	 * @param fileName File the File object to which the configurations will be mapped.
 	 * @return PageData the configured PageData
 	 * @throws IOException if the configuration file cannot be opened or read
 	 */
 	public static PageData loadYaml(File fileName) throws IOException{
-		ObjectMapper mapper = new ObjectMapper(new YAMLFactory())
-				.configure(DeserializationFeature
-				.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		return YAMLDataCache.load(fileName, PageData.class, PageData::parseYaml);
+	}
+
+	/**
+	 * Parses and validates the given File as a page object.
+	 * 
+	 * @param fileName File the File object to which the configurations will be mapped.
+	 * @return PageData the configured PageData
+	 */
+	static PageData parseYaml(File fileName) {
 		PageData pageData = null;
 		try {
-			pageData = mapper.readValue(fileName, PageData.class);
+			pageData = YAML_MAPPER.readValue(fileName, PageData.class);
 		} catch (Exception e) {
 			throw new FileException(e, fileName);
 		}
 		
-		if (pageData.urls != null && pageData.executables != null) {
+		if (pageData != null && pageData.urls != null && pageData.executables != null) {
 			throw new FileException("A page object cannot contain both urls and executables.", fileName);
 		}
 			
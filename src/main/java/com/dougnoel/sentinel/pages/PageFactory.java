@@ -4,9 +4,10 @@ import java.util.HashMap;
 /**
  * The Page Factory is a factory method that simply takes a string containing the name of a 
  * Page Object and returns the object to be worked on. It handles searching packages for page definitions.
+ * Each thread has its own pages, since pages hold the elements and table data read from that thread's driver.
  */
 public class PageFactory {
-	private static HashMap<String, Page> pages = new HashMap<>();	
+	private static final ThreadLocal<HashMap<String, Page>> pages = ThreadLocal.withInitial(HashMap::new);
 	
 	private PageFactory() {
 		//Exists only to defeat instantiation.
@@ -21,14 +22,21 @@ public class PageFactory {
 	 */
 	protected static Page buildOrRetrievePage(String pageName) {
 		pageName = pageName.replaceAll("\\s", "");
-		Page page = pages.get(pageName);
+		Page page = pages.get().get(pageName);
 		if (page != null) {
 			return page;
 		} else {
 			page = new Page(pageName);
 		}
-		pages.put(pageName, page);
+		pages.get().put(pageName, page);
 		return page;
 	}
 
+	/**
+	 * Throws away the pages created on the current thread.
+	 */
+	static void clear() {
+		pages.remove();
+	}
+
 }
\ No newline at end of file
@@ -10,8 +10,10 @@ import org.openqa.selenium.NotFoundException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.configurations.Poller;
 import com.dougnoel.sentinel.configurations.Time;
 import com.dougnoel.sentinel.enums.PageObjectType;
+import com.dougnoel.sentinel.strings.SentinelStringUtils;
 import com.dougnoel.sentinel.system.TestManager;
 import com.dougnoel.sentinel.webdrivers.Driver;
 
@@ -19,15 +21,16 @@ import com.dougnoel.sentinel.webdrivers.Driver;
  * The Page Manager is a singleton class that manages what page the test is on.
  * Calling setPage with a string containing the name of the new page calls the
  * Page Factory to create the new page (if it does not exist) and return it as 
- * a Page Object.
+ * a Page Object. The current page is kept for each thread, so scenarios run in
+ * parallel each track their own page.
  */
 public class PageManager {
 	private static final Logger log = LogManager.getLogger(PageManager.class);
-	// Only one page reference should exist. We aren't doing multi-threading.
-	private static Page page = null;
+	// Each thread has its own current page so that scenarios can run in parallel.
+	private static final ThreadLocal<Page> page = new ThreadLocal<>();
 	// The type of the current page object so that if we are creating a page object that doesn't contain
 	// URLs or Executables, we can infer the current page type from the previous one.
-	private static PageObjectType pageObjectType = PageObjectType.UNKNOWN;
+	private static final ThreadLocal<PageObjectType> pageObjectType = ThreadLocal.withInitial(() -> PageObjectType.UNKNOWN);
 
 	private static WebDriver driver() { return Driver.getWebDriver(); }
 
@@ -44,24 +47,37 @@ public class PageManager {
 	 */
 	public static void setPage(String pageName) {
 		try {
-			page = PageFactory.buildOrRetrievePage(pageName);
-			pageObjectType = page.getPageObjectType();
-			page.clearTables();
-			TestManager.setActiveTestObject(page);
+			var newPage = PageFactory.buildOrRetrievePage(pageName);
+			page.set(newPage);
+			pageObjectType.set(newPage.getPageObjectType());
+			Driver.pageChanged();
+			newPage.clearTables();
+			TestManager.setActiveTestObject(newPage);
 		} catch (NullPointerException npe) {
-			page = null;
+			page.remove();
 		}
 	}
 
+	/**
+	 * Forgets the current page and every page created on the current thread, so that the next scenario
+	 * run on the thread starts without them.
+	 */
+	public static void clear() {
+		page.remove();
+		pageObjectType.remove();
+		PageFactory.clear();
+	}
+
 	/**
 	 * This method returns the current Page Object stored in the Page Manager.
 	 *
 	 * @return Page the Page Object
 	 */
 	public static Page getPage() {
-		if (page == null)
+		var currentPage = page.get();
+		if (currentPage == null)
 			throw new NotFoundException("Page not created yet. It must be navigated to before it can be used.");
-		return page;
+		return currentPage;
 	}
 	
 	/**
@@ -72,7 +88,7 @@ public class PageManager {
 	 */
 	public static void open(String pageName, String arguments) {
     	PageManager.setPage(pageName);
-    	if (pageObjectType == PageObjectType.WEBPAGE) {
+    	if (pageObjectType.get() == PageObjectType.WEBPAGE) {
 	    	String url = Configuration.getURL(PageManager.getPage());
 	    	url += arguments == null ? "" : arguments;
 	    	log.debug("Loading the the {} page using the url: {}", pageName, url);
@@ -95,9 +111,12 @@ public class PageManager {
 	public static boolean waitForPageLoad() throws InterruptedException {
 		if(PageManager.getPage().getPageObjectType() != PageObjectType.EXECUTABLE) {
 			driver().manage().timeouts().pageLoadTimeout(Time.out().toSeconds(), TimeUnit.SECONDS);
-			while (!isPageLoaded()) {
-				Thread.sleep(20);
+			var poller = Poller.start();
+			while (poller.poll()) {
+				if (isPageLoaded())
+					return true;
 			}
+			throw new TimeoutException(SentinelStringUtils.format("The page did not finish loading within the timeout of {} seconds.", Time.out().getSeconds()));
 		}
 		return true;
 	}
@@ -132,7 +151,7 @@ public class PageManager {
 	 * @return PageObjectType the type of page we are on
 	 */
 	public static PageObjectType getCurrentPageObjectType() {
-		return pageObjectType;
+		return pageObjectType.get();
 	}
 	
 }
\ No newline at end of file
@@ -8,11 +8,16 @@ import java.io.IOException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.dougnoel.sentinel.apis.APIManager;
 import com.dougnoel.sentinel.configurations.Configuration;
 import com.dougnoel.sentinel.configurations.Time;
 import com.dougnoel.sentinel.pages.PageManager;
+import com.dougnoel.sentinel.system.DownloadManager;
+import com.dougnoel.sentinel.system.FileManager;
+import com.dougnoel.sentinel.system.TestManager;
 import com.dougnoel.sentinel.webdrivers.Driver;
 
+import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
@@ -33,12 +38,40 @@ public class BaseSteps {
     public static void before() {
         assumeTrue(Configuration.operatingSystem().contentEquals(WINDOWS));
     }
+
+    /**
+     * When scenarios run in parallel, quits the drivers of the current thread and clears the pages, API, test object,
+     * test file and download state kept for the scenario once it has finished, after every other after hook has run.
+     * The thread may be handed any scenario next, so it must not inherit a browser or state from this one.
+     * <p>
+     * Turn this on by setting the parallelScenarios property to true in the sentinel.yml config file or on the
+     * command line with the switch '-DparallelScenarios=true' whenever the runner is set up to run scenarios on
+     * more than one thread. The drivers are left open if leaveBrowserOpen is also set. Serial runs are unchanged:
+     * one browser is used for every scenario and quit once all tests have finished, and state carries over from one
+     * scenario to the next.
+     */
+    @After(order = 0)
+    public static void after() {
+        if (!Configuration.toBoolean("parallelScenarios"))
+            return;
+        if (!Configuration.toBoolean("leaveBrowserOpen"))
+            Driver.quitDrivers();
+        PageManager.clear();
+        APIManager.clear();
+        TestManager.clear();
+        FileManager.clearCurrentTestFile();
+        DownloadManager.clear();
+    }
     
     /**
      * Clicks the element that matches the given elementName as defined on the current Page object. The page object and driver object are defined by the
      * WebDriverFactory and PageFactory objects. The derived Page Object (extends
      * Page) should define a method named [element name]_[element type] returning a Element object (e.g. login_button).
      * <p>
+     * The element is clicked with WebDriver, then after hovering over it, then with javascript, until one works. A WebDriver
+     * or hover click that works is tried first the next time. A javascript click is never remembered, so every click
+     * tries a real click first and an overlay or spinner that once covered the element cannot hide one that covers it later.
+     * <p>
      * <b>Gherkin Examples:</b>
      * <ul>
      * <li>I click a login button</li>
@@ -3,6 +3,7 @@ package com.dougnoel.sentinel.steps;
 import com.dougnoel.sentinel.configurations.Configuration;
 import com.dougnoel.sentinel.exceptions.FileException;
 import com.dougnoel.sentinel.files.CsvFile;
+import com.dougnoel.sentinel.math.NumericColumn;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
 import com.dougnoel.sentinel.system.FileManager;
 import io.cucumber.java.en.Then;
@@ -400,4 +401,37 @@ public class CsvSteps {
 
         Configuration.update(storageKey, storageValue);
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies all values in the given csv column are in the given state relative to the given referenceNumber, using the given comparisonType.
+     * Values are read as numbers using the locale set with the numberLocale property, so currency symbols and grouping separators are ignored.
+     * <p>
+     * <b>Gherkin Examples:</b>
+     * <ul>
+     * <li>I verify all values in the Price column of the CSV file are less than $1,000</li>
+     * <li>I verify all values in the 3rd column of the csv file are greater than 0</li>
+     * </ul>
+     *
+     * @param column String name of the column in the csv, or an ordinal column index (1st, 2nd, 3rd, etc.)
+     * @param comparisonType String type of comparison to perform. Options: "less than", "greater than", "equal to".
+     * @param referenceNumber String the number to compare the column values to.
+     */
+    @Then("^I verify all values in the (.*) column of the (?:CSV|csv) file are (less than|greater than|equal to) (.*?)$")
+    public static void verifyCsvAllNumericValuesInColumn(String column, String comparisonType, String referenceNumber){
+        CsvFile file = (CsvFile) FileManager.getCurrentTestFile();
+
+        var expectedResult = SentinelStringUtils.format(
+                "Expected all values in the {} column of the CSV file to be {} {}.",
+                column, comparisonType, referenceNumber);
+        log.trace(expectedResult);
+
+        double reference = NumericColumn.parseNumber(referenceNumber);
+        String firstColumnCharacter = column.substring(0, 1);
+        if(StringUtils.isNumeric(firstColumnCharacter)){
+            assertTrue(expectedResult, file.verifyNumericValuesInWholeColumn(SentinelStringUtils.parseOrdinal(column), comparisonType, reference));
+        }
+        else{
+            assertTrue(expectedResult, file.verifyNumericValuesInWholeColumn(column, comparisonType, reference));
+        }
+    }
+}
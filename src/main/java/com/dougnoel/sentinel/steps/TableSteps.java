@@ -116,20 +116,24 @@ public class TableSteps {
     }
     
     /**
-     * Stores the data for the given page in the given table for later comparison.
+     * Stores the data for the given page in the given table for later comparison. Optionally, a column with a
+     * different value in every row can be given, so that rows whose data changed can be told apart from rows
+     * that were added or removed when the table is compared.
      * <p>
      * <b>Gherkin Examples:</b>
      * <ul>
      * <li>I view the 1st page of results from the Provider search </li>
      * <li>I view the 5th page of results from the Members table</li>
      * <li>I view the 2nd page of results from the NFL Schedule </li>
+     * <li>I view the 1st page of results from the Members table keyed by the Member ID column</li>
      * </ul>
      * @param pageNumber int Page we are on to store as a key in a hash.
      * @param tableName String the name of the table element on the page object
+     * @param keyColumn String the header of the column that identifies each row, or null to match rows by their data
      */
-    @Given("^I view the (\\d+)(?:st|nd|rd|th) page of results from the (.*)$")
-    public static void storeTableValues(int pageNumber, String tableName) {
-        getElementAsTable(tableName).storeTable(pageNumber);
+    @Given("^I view the (\\d+)(?:st|nd|rd|th) page of results from the (.*?)(?: keyed by the (.*) column)?$")
+    public static void storeTableValues(int pageNumber, String tableName, String keyColumn) {
+        getElementAsTable(tableName).storeTable(pageNumber, keyColumn);
     }
     
     /**
@@ -12,6 +12,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.math.NumericColumn;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
 
 import io.cucumber.java.en.Then;
@@ -53,21 +54,31 @@ public class TableVerificationSteps {
     /**
      * Compares the current page we are on with the page stored in
      * memory given the page number and Table element object page for the current page.
-     * TODO: Add negative case
+     * If the pages do not match as expected, the rows added, removed and changed are reported.
      * <p>
      * <b>Gherkin Examples:</b>
      * <ul>
      * <li>I should be shown the 1st page of results from the members search</li>
      * <li>I should be shown the 2nd page of results from the teams search</li>
      * <li>I should be shown the 4th page of results from the pharmacy search</li>
+     * <li>I should not be shown the 1st page of results from the members search</li>
      * </ul>
+     * @param assertion String null to verify the pages match, or " not" to verify they do not
      * @param pageNumber int Page we are on to use as a key to retrieve data.
      * @param tableName String the name of the table element on the page object
      */
-    @Then("^I should be shown the (\\d+)(?:st|nd|rd|th) page of results from the (.*)$")
-    public static void compareTables(int pageNumber, String tableName) throws Exception {
+    @Then("^I should( not)? be shown the (\\d+)(?:st|nd|rd|th) page of results from the (.*)$")
+    public static void compareTables(String assertion, int pageNumber, String tableName) throws Exception {
         Table table = getElementAsTable(tableName);
-    	assertTrue(table, () -> table.compareWithStoredTable(pageNumber));
+        boolean negate = !StringUtils.isEmpty(assertion);
+        String expectedResult = SentinelStringUtils.format("Expected the current page of the {} {}to match the stored page {}.",
+                tableName, negate ? "not " : "", pageNumber);
+        var diff = table.diffWithStoredTable(pageNumber);
+        if (diff.isEmpty() == negate) {
+            table.refresh();
+            diff = table.diffWithStoredTable(pageNumber);
+        }
+        Assert.assertTrue(SentinelStringUtils.format("{} Found {}", expectedResult, diff), diff.isEmpty() != negate);
     }
     
     /**
@@ -470,6 +481,57 @@ public class TableVerificationSteps {
                 "Expected all values in the {} column of the {} to be {} {}.",
                 columnName, tableName, comparisonType, referenceNumber);
         log.trace(expectedResult);
-        assertTrue(expectedResult, table, () -> table.verifyNumericValuesInWholeColumn(columnName, comparisonType, Double.parseDouble(referenceNumber)));
+        assertTrue(expectedResult, table, () -> table.verifyNumericValuesInWholeColumn(columnName, comparisonType, NumericColumn.parseNumber(referenceNumber)));
+    }
+
+    /**
+     * Verifies all values in the given column are between the two given numbers, inclusive.
+     * Values are read as numbers using the locale set with the numberLocale property, so currency symbols
+     * and grouping separators are ignored.
+     *
+     * <b>Gherkin Examples:</b>
+     * <ul>
+     * <li>I verify all values in the Weight column in the Specimen Table are between 100 and 250</li>
+     * <li>I verify all values in the Price column in the Products Table are between $0.99 and $1,000</li>
+     * </ul>
+     * @param columnName String name of the column in the table
+     * @param tableName String name of the table element
+     * @param low String the smallest value allowed
+     * @param high String the largest value allowed
+     * @throws Exception if the assertion fails or the table method throws an exception.
+     */
+    @Then("^I verify all values in the (.*) column in the (.*) are between (.*?) and (.*?)$")
+    public static void verifyAllNumericValuesInColumnAreBetween(String columnName, String tableName, String low, String high) throws Exception {
+        Table table = getElementAsTable(tableName);
+        var expectedResult = SentinelStringUtils.format(
+                "Expected all values in the {} column of the {} to be between {} and {}.",
+                columnName, tableName, low, high);
+        log.trace(expectedResult);
+        assertTrue(expectedResult, table, () -> table.verifyNumericValuesInWholeColumnBetween(columnName, NumericColumn.parseNumber(low), NumericColumn.parseNumber(high)));
+    }
+
+    /**
+     * Verifies the values in the given column add up to the given total.
+     * Values are read as numbers using the locale set with the numberLocale property, so currency symbols
+     * and grouping separators are ignored.
+     *
+     * <b>Gherkin Examples:</b>
+     * <ul>
+     * <li>I verify the values in the Amount column in the Invoice Table add up to $1,234.50</li>
+     * <li>I verify the values in the Count column in the Sales Table add up to 22</li>
+     * </ul>
+     * @param columnName String name of the column in the table
+     * @param tableName String name of the table element
+     * @param expectedTotal String the total the values should add up to
+     * @throws Exception if the assertion fails or the table method throws an exception.
+     */
+    @Then("^I verify the values in the (.*) column in the (.*) add up to (.*?)$")
+    public static void verifyNumericValuesInColumnSumTo(String columnName, String tableName, String expectedTotal) throws Exception {
+        Table table = getElementAsTable(tableName);
+        var expectedResult = SentinelStringUtils.format(
+                "Expected the values in the {} column of the {} to add up to {}.",
+                columnName, tableName, expectedTotal);
+        log.trace(expectedResult);
+        assertTrue(expectedResult, table, () -> table.verifyNumericValuesInWholeColumnSumTo(columnName, NumericColumn.parseNumber(expectedTotal)));
     }
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.dougnoel.sentinel.steps;
 
 import static com.dougnoel.sentinel.elements.ElementFunctions.getElement;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import com.dougnoel.sentinel.elements.Element;
 import com.dougnoel.sentinel.webdrivers.Driver;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -88,6 +91,30 @@ public class TextSteps {
         Configuration.update(elementName, text);
     }
     
+    /**
+     * Enters text into several elements on the current Page object at once, and stores the text entered
+     * into the Configuration Manager using each element name as the key. The text boxes in each frame are
+     * filled in a single call to the browser and any element that cannot be filled that way is sent the text
+     * the same way as the enter step. The first column holds the element names and the second the text to enter.
+     * <p>
+     * <b>Gherkin Example:</b>
+     * <pre>
+     * I fill in the fields with the values:
+     *   | First Name Field | Bob              |
+     *   | Last Name Field  | Smith            |
+     *   | Email Field      | bob@example.com  |
+     * </pre>
+     * 
+     * @param values Map&lt;String, String&gt; each element name mapped to the text to enter into it
+     */
+    @When("^I fill in the fields with the values:$")
+    public static void fillFields(Map<String, String> values) {
+        Map<Element, String> elements = new LinkedHashMap<>();
+        values.forEach((elementName, text) -> elements.put(getElement(elementName), text));
+        Element.fill(elements);
+        values.forEach(Configuration::update);
+    }
+
     /**
      * Types the randomly generated text for the given key under which the text is stored in the given elementName.
 	 * The given values can have the same name as it looks up a stored value for that element. This should be called only after using the
@@ -71,9 +71,10 @@ public class VerificationSteps {
                 throw new NumberFormatException(storedValueMissingError);
             }
 
-            actual = getElement(elementName).getAttribute("value");
+            var state = getElement(elementName).snapshot();
+            actual = state.getValue();
             if(actual == null)
-                actual = getElement(elementName).getText();
+                actual = state.getText();
 
             double storedValue = Double.parseDouble(unparsedStoredValue);
             BigDecimal expectedValue;
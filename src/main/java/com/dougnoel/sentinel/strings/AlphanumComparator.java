@@ -32,10 +32,14 @@ package com.dougnoel.sentinel.strings;
  */
 
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * This is an updated version with enhancements made by Daniel Migowski,
  * Andre Bogus, and David Koelle. Updated by David Koelle in 2017.
+ * <p>
+ * Chunks are compared in place inside the original strings, so comparing two
+ * strings does not allocate any memory.
  *
  * To use this class:
  *   Use the static "sort" method from the java.util.Collections class:
@@ -43,7 +47,7 @@ import java.util.Comparator;
  */
 public class AlphanumComparator implements Comparator<String>
 {
-    private final boolean isDigit(char ch)
+    private static boolean isDigit(char ch)
     {
         return ((ch >= 48) && (ch <= 57));
     }
@@ -53,36 +57,17 @@ public class AlphanumComparator implements Comparator<String>
      * @param s String the string to process
      * @param slength int the length of the string
      * @param marker int the start of the chunk
-     * @return String the chunk of string requested
+     * @return int the index just past the end of the chunk that starts at marker
      */
-    private final String getChunk(String s, int slength, int marker)
+    private static int getChunkEnd(String s, int slength, int marker)
     {
-        StringBuilder chunk = new StringBuilder();
-        char c = s.charAt(marker);
-        chunk.append(c);
+        boolean digitChunk = isDigit(s.charAt(marker));
         marker++;
-        if (isDigit(c))
+        while (marker < slength && isDigit(s.charAt(marker)) == digitChunk)
         {
-            while (marker < slength)
-            {
-                c = s.charAt(marker);
-                if (!isDigit(c))
-                    break;
-                chunk.append(c);
-                marker++;
-            }
-        } else
-        {
-            while (marker < slength)
-            {
-                c = s.charAt(marker);
-                if (isDigit(c))
-                    break;
-                chunk.append(c);
-                marker++;
-            }
+            marker++;
         }
-        return chunk.toString();
+        return marker;
     }
 
     public int compare(String s1, String s2)
@@ -99,25 +84,24 @@ public class AlphanumComparator implements Comparator<String>
 
         while (thisMarker < s1Length && thatMarker < s2Length)
         {
-            String thisChunk = getChunk(s1, s1Length, thisMarker);
-            thisMarker += thisChunk.length();
+            int thisChunkEnd = getChunkEnd(s1, s1Length, thisMarker);
+            int thisChunkLength = thisChunkEnd - thisMarker;
 
-            String thatChunk = getChunk(s2, s2Length, thatMarker);
-            thatMarker += thatChunk.length();
+            int thatChunkEnd = getChunkEnd(s2, s2Length, thatMarker);
+            int thatChunkLength = thatChunkEnd - thatMarker;
 
             // If both chunks contain numeric characters, sort them numerically
             int result = 0;
-            if (isDigit(thisChunk.charAt(0)) && isDigit(thatChunk.charAt(0)))
+            if (isDigit(s1.charAt(thisMarker)) && isDigit(s2.charAt(thatMarker)))
             {
                 // Simple chunk comparison by length.
-                int thisChunkLength = thisChunk.length();
-                result = thisChunkLength - thatChunk.length();
+                result = thisChunkLength - thatChunkLength;
                 // If equal, the first different number counts
                 if (result == 0)
                 {
                     for (int i = 0; i < thisChunkLength; i++)
                     {
-                        result = thisChunk.charAt(i) - thatChunk.charAt(i);
+                        result = s1.charAt(thisMarker + i) - s2.charAt(thatMarker + i);
                         if (result != 0)
                         {
                             return result;
@@ -127,13 +111,51 @@ public class AlphanumComparator implements Comparator<String>
             } 
             else
             {
-                result = thisChunk.compareTo(thatChunk);
+                // Same result as String.compareTo on the two chunks
+                int shorterLength = Math.min(thisChunkLength, thatChunkLength);
+                for (int i = 0; i < shorterLength && result == 0; i++)
+                {
+                    result = s1.charAt(thisMarker + i) - s2.charAt(thatMarker + i);
+                }
+                if (result == 0)
+                {
+                    result = thisChunkLength - thatChunkLength;
+                }
             }
 
             if (result != 0)
                 return result;
+
+            thisMarker = thisChunkEnd;
+            thatMarker = thatChunkEnd;
         }
 
         return s1Length - s2Length;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns true if the given values are already in order, checking each value against the
+     * one after it in a single pass instead of sorting a copy of the list and comparing.
+     * 
+     * @param values List&lt;String&gt; the values to check
+     * @param ascending boolean true to check for ascending order, false for descending order
+     * @return boolean true if the values are sorted in the requested order, false otherwise
+     */
+    public boolean isSorted(List<String> values, boolean ascending)
+    {
+        int size = values.size();
+        if (size < 2)
+            return true;
+
+        String previous = values.get(0);
+        for (int i = 1; i < size; i++)
+        {
+            String current = values.get(i);
+            int result = compare(previous, current);
+            if (ascending ? result > 0 : result < 0)
+                return false;
+            previous = current;
+        }
+        return true;
+    }
+}
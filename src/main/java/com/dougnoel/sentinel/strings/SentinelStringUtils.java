@@ -4,19 +4,24 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.CharUtils;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.openqa.selenium.InvalidArgumentException;
 
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 
 public class SentinelStringUtils extends org.apache.commons.lang3.StringUtils {
 
 	private static final String SURROUNDING_QUOTES = "^[\"'].*[\"']$";
+	private static final long TEMPLATE_CACHE_SIZE = 4_000_000; // Total characters of text kept in each template cache.
+	private static final LoadingCache<String, VariableTemplate> TEST_DATA_TEMPLATES = createTemplateCache(true);
+	private static final LoadingCache<String, VariableTemplate> STORED_VARIABLE_TEMPLATES = createTemplateCache(false);
+
 	/**
 	 * Returns a formatted String by replacing each instance of {} place holders  with the given arguments.
 	 * @param messagePattern the message pattern containing place holders.
@@ -122,14 +127,8 @@ public class SentinelStringUtils extends org.apache.commons.lang3.StringUtils {
 	 * @return String the string with variables replaced as applicable
 	 */
 	public static String replaceVariable(String text) {
-		Matcher matcher = Pattern.compile("\\{[^\\}]*+\\}").matcher(text);
-		while (matcher.find()) {
-			var variable = matcher.group();
-			var variableName = StringUtils.substring(variable, 1, -1);
-			var value = Configuration.getTestData("variables", variableName);
-			text = StringUtils.replaceOnce(text, variable, value); //Using replaceOnce so that if we have the same variable name twice we do not run into iteration issues.
-		}
-		return text;
+		return TEST_DATA_TEMPLATES.getUnchecked(text)
+				.render(variableName -> Configuration.getTestData("variables", variableName));
 	}
 
 	/**
@@ -156,12 +155,20 @@ public class SentinelStringUtils extends org.apache.commons.lang3.StringUtils {
 	 * @return String the string with variables replaced as applicable
 	 */
 	public static String replaceStoredVariables(String text) {
-		Matcher matcher = Pattern.compile("\\{\\S[^\\}]*+\\}").matcher(text);
-		while (matcher.find()) {
-			var variable = matcher.group();
-			var value = Configuration.toString(variable.substring(1, variable.length() - 1));
-			text = StringUtils.replaceOnce(text, variable, value); //Using replaceOnce so that if we have the same variable name twice we do not run into iteration issues.
-			}
-		return text;
+		return STORED_VARIABLE_TEMPLATES.getUnchecked(text).render(Configuration::toString);
+	}
+
+	/**
+	 * Returns a cache of parsed variable templates so that text used more than once, such as a request body
+	 * sent in every scenario, is only scanned for variables the first time. Variable values are still looked
+	 * up each time the text is used. The cache is limited by the total length of the text it holds.
+	 * @param allowLeadingWhitespace boolean true if a variable name may start with whitespace
+	 * @return LoadingCache&lt;String, VariableTemplate&gt; the template cache
+	 */
+	private static LoadingCache<String, VariableTemplate> createTemplateCache(boolean allowLeadingWhitespace) {
+		return CacheBuilder.newBuilder()
+				.maximumWeight(TEMPLATE_CACHE_SIZE)
+				.weigher((String text, VariableTemplate template) -> text.length())
+				.build(CacheLoader.from(text -> VariableTemplate.parse(text, allowLeadingWhitespace)));
 	}
 }
@@ -0,0 +1,102 @@
+package com.dougnoel.sentinel.strings;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * A string split once into the literal text and the {variable} place holders it contains, so that it can be
+ * rendered any number of times with the current variable values in a single pass.
+ * <p>
+ * A place holder starts at an opening curly brace and ends at the next closing curly brace. When whitespace
+ * is not allowed after the opening brace, braces followed by whitespace are treated as literal text so that
+ * JSON objects laid out over several lines are not mistaken for variables.
+ */
+final class VariableTemplate {
+	private final String text;
+	private final String[] literals;
+	private final String[] variables;
+
+	private VariableTemplate(String text, List<String> literals, List<String> variables) {
+		this.text = text;
+		this.literals = literals.toArray(new String[0]);
+		this.variables = variables.toArray(new String[0]);
+	}
+
+	/**
+	 * Splits the given text into literal text and variable place holders.
+	 *
+	 * @param text String the text to split
+	 * @param allowLeadingWhitespace boolean true if a place holder may start with whitespace, e.g. "{ name}"
+	 * @return VariableTemplate the parsed template
+	 */
+	static VariableTemplate parse(String text, boolean allowLeadingWhitespace) {
+		List<String> literals = new ArrayList<>();
+		List<String> variables = new ArrayList<>();
+		int literalStart = 0;
+		int searchStart = 0;
+		int minimumLength = allowLeadingWhitespace ? 0 : 1;
+
+		while (true) {
+			int open = text.indexOf('{', searchStart);
+			if (open == -1)
+				break;
+			if (!allowLeadingWhitespace && (open + 1 >= text.length() || isWhitespace(text.charAt(open + 1)))) {
+				searchStart = open + 1;
+				continue;
+			}
+			int close = text.indexOf('}', open + 1 + minimumLength);
+			if (close == -1)
+				break;
+			literals.add(text.substring(literalStart, open));
+			variables.add(text.substring(open + 1, close));
+			literalStart = close + 1;
+			searchStart = close + 1;
+		}
+		literals.add(text.substring(literalStart));
+
+		return new VariableTemplate(text, literals, variables);
+	}
+
+	/**
+	 * Returns true for the characters matched by \s in a regular expression.
+	 *
+	 * @param character char the character to check
+	 * @return boolean true if the character is whitespace
+	 */
+	private static boolean isWhitespace(char character) {
+		return " \t\n\u000B\f\r".indexOf(character) >= 0;
+	}
+
+	/**
+	 * Returns true if the template contains at least one variable.
+	 *
+	 * @return boolean true if there are variables to replace
+	 */
+	boolean hasVariables() {
+		return variables.length > 0;
+	}
+
+	/**
+	 * Returns the text with each variable replaced by the value returned for its name. Variables
+	 * with no value (null) are left in the text unchanged, including their curly braces.
+	 *
+	 * @param values UnaryOperator&lt;String&gt; returns the value for a variable name
+	 * @return String the rendered text
+	 */
+	String render(UnaryOperator<String> values) {
+		if (!hasVariables())
+			return text;
+
+		var rendered = new StringBuilder(text.length());
+		for (int i = 0; i < variables.length; i++) {
+			rendered.append(literals[i]);
+			String value = values.apply(variables[i]);
+			if (value == null)
+				rendered.append('{').append(variables[i]).append('}');
+			else
+				rendered.append(value);
+		}
+		return rendered.append(literals[variables.length]).toString();
+	}
+}
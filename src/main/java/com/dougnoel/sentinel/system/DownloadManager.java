@@ -13,6 +13,7 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.imageio.ImageIO;
 
@@ -38,15 +39,21 @@ import de.redsix.pdfcompare.env.SimpleEnvironment;
 /**
  * Manages Download actions and interactions, which handles CRUD and IO for Sentinel. This includes deleting files, getting/setting files, filenames, or file extensions,
  * monitoring downloads, verifying file has been downloaded, parsing PDF content for content verification, and more.
+ * <p>
+ * Each thread has its own download directory, file extension and most recent download. The first thread to download
+ * uses the configured download directory, and any other thread uses a sub-directory of it so that scenarios running
+ * in parallel do not see each other's downloads.
  */
 public class DownloadManager {
     private static final Logger log = LogManager.getLogger(DownloadManager.class.getName()); // Create a logger.
 
-    private static String fileExtension = "pdf"; // Current file extension - Default of pdf
+    private static final ThreadLocal<String> fileExtension = ThreadLocal.withInitial(() -> "pdf"); // Current file extension - Default of pdf
 
-    private static String downloadDirectory = createDownloadDirectory();
+    private static final AtomicInteger numberOfDownloadDirectories = new AtomicInteger();
 
-    private static Path mostRecentDownloadPath = null;
+    private static final ThreadLocal<String> downloadDirectory = ThreadLocal.withInitial(DownloadManager::createThreadDownloadDirectory);
+
+    private static final ThreadLocal<Path> mostRecentDownloadPath = new ThreadLocal<>();
 
     private DownloadManager(){}
 
@@ -57,7 +64,7 @@ public class DownloadManager {
      * @return boolean Returns true if the file exists, false if it does not.
      */
     public static boolean isFileDownloaded(String fileName) {
-    	var dir = new File(downloadDirectory);
+    	var dir = new File(getDownloadDirectory());
         File[] directoryContents = dir.listFiles();
 
         for (var i = 0; i < directoryContents.length; i++) {
@@ -77,7 +84,7 @@ public class DownloadManager {
      * @throws IOException if the file cannot be created.
      */
     public static String monitorDownload() throws InterruptedException, IOException {
-        return monitorDownload(downloadDirectory, fileExtension, null);
+        return monitorDownload(getDownloadDirectory(), fileExtension.get(), null);
     }
 
     /**
@@ -89,7 +96,7 @@ public class DownloadManager {
      * @throws IOException if the file cannot be created.
      */
     public static String monitorDownload(Runnable pageAction) throws InterruptedException, IOException {
-        return monitorDownload(downloadDirectory, fileExtension, pageAction);
+        return monitorDownload(getDownloadDirectory(), fileExtension.get(), pageAction);
     }
 
     /**
@@ -370,8 +377,8 @@ public class DownloadManager {
      * @throws IOException if error during file IO or during document load
      */
     public static String saveImageInPDF(int index, String pdfFileName) throws IOException {
-    	var pdfFile = new File(downloadDirectory + File.separator + pdfFileName);
-    	var imageFile = new File(downloadDirectory + File.separator + pdfFileName + "_" + index + ".jpg");
+    	var pdfFile = new File(getDownloadDirectory() + File.separator + pdfFileName);
+    	var imageFile = new File(getDownloadDirectory() + File.separator + pdfFileName + "_" + index + ".jpg");
         PDFRenderer pdfRenderer = null;
         BufferedImage image = null;
 
@@ -391,7 +398,7 @@ public class DownloadManager {
      * @param fileExtension String file ext to set
      */
     public static void setFileExtension(String fileExtension) {
-        DownloadManager.fileExtension = fileExtension;
+        DownloadManager.fileExtension.set(fileExtension);
     }
 
     /**
@@ -400,7 +407,7 @@ public class DownloadManager {
      * @return String the downloadDirectory 
      */
     public static String getDownloadDirectory() {
-        return downloadDirectory;
+        return downloadDirectory.get();
     }
 
     /**
@@ -419,13 +426,30 @@ public class DownloadManager {
         return downloadDirectory;
     }
 
+    /**
+     * Returns the download directory for a thread that has not used one yet. The first thread gets the
+     * configured download directory, and each thread after that gets its own sub-directory of it.
+     * @return String the download directory path
+     */
+    private static String createThreadDownloadDirectory() {
+    	String baseDirectory = createDownloadDirectory();
+    	int directoryNumber = numberOfDownloadDirectories.getAndIncrement();
+    	if (directoryNumber == 0)
+    		return baseDirectory;
+
+    	var threadDirectory = Path.of(baseDirectory, "thread-" + directoryNumber).toFile();
+    	threadDirectory.mkdirs();
+    	log.trace("Setting download directory for thread {} to {}", Thread.currentThread().getName(), threadDirectory);
+    	return threadDirectory.toString();
+    }
+
     /**
      * Sets given downloadDirectory object
      * 
      * @param downloadDirectory String the downloadDirectory to set
      */
     public static void setDownloadDirectory(String downloadDirectory) {
-        DownloadManager.downloadDirectory = downloadDirectory;
+        DownloadManager.downloadDirectory.set(downloadDirectory);
     }
 
     /**
@@ -433,8 +457,8 @@ public class DownloadManager {
      * @throws IOException in the case that an IOException occurs while clearing the directory
      */
     public static void clearDownloadDirectory() throws IOException {
-        log.trace("Clearing download directory at {}", downloadDirectory);
-        FileUtils.cleanDirectory(new File(downloadDirectory));
+        log.trace("Clearing download directory at {}", getDownloadDirectory());
+        FileUtils.cleanDirectory(new File(getDownloadDirectory()));
     }
 
     /**
@@ -443,9 +467,9 @@ public class DownloadManager {
      */
     private static void setMostRecentDownloadPath(String filename){
         if(StringUtils.isBlank(filename))
-            mostRecentDownloadPath = null;
+            mostRecentDownloadPath.remove();
         else
-            mostRecentDownloadPath = Path.of(getDownloadDirectory(), filename);
+            mostRecentDownloadPath.set(Path.of(getDownloadDirectory(), filename));
     }
 
     /**
@@ -453,6 +477,15 @@ public class DownloadManager {
      * @return Path the path to the most recently-downloaded file.
      */
     public static Path getMostRecentDownloadPath(){
-        return mostRecentDownloadPath;
+        return mostRecentDownloadPath.get();
+    }
+
+    /**
+     * Forgets the file extension and most recent download for the current thread, so that the next scenario
+     * run on the thread starts with the defaults. The thread keeps its download directory.
+     */
+    public static void clear(){
+        fileExtension.remove();
+        mostRecentDownloadPath.remove();
     }
-}
\ No newline at end of file
+}
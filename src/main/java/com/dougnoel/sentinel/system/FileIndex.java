@@ -0,0 +1,246 @@
+package com.dougnoel.sentinel.system;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.dougnoel.sentinel.configurations.Configuration;
+
+import io.github.classgraph.ClassGraph;
+import io.github.classgraph.ScanResult;
+
+/**
+ * Keeps an index of file name to file location for every file in the src directory and every resource on the
+ * classpath so that files can be found without searching the disk each time. The src directory is indexed the
+ * first time a file is requested, and the classpath is only scanned the first time a file is not found in src.
+ * <p>
+ * If the same file name exists in more than one place in the src directory, a warning listing every location is
+ * logged once and the first file found is used. Names repeated on the classpath (e.g. LICENSE files in many jars) are
+ * expected, so they are only counted in a debug message. Compiled classes are left out of the classpath index because
+ * they are never looked up as files.
+ * <p>
+ * The index is not updated when files are added or removed. Call invalidate() after creating files under src, or
+ * set the fileIndexWatch property to true in the sentinel.yml config file or on the command line with the switch
+ * '-DfileIndexWatch=true' to have the src index rebuilt automatically whenever the directory changes.
+ */
+public class FileIndex {
+	private static final Logger log = LogManager.getLogger(FileIndex.class);
+	private static final Path SOURCE_DIRECTORY = Paths.get("src");
+
+	private static volatile Map<String, File> sourceFiles = null;
+	private static volatile Map<String, File> classpathFiles = null;
+	private static WatchService watchService = null;
+
+	private FileIndex() {} //Exists to defeat instantiation.
+
+	/**
+	 * Returns the file with the given name from the src directory or, failing that, from the classpath.
+	 *
+	 * @param fileName String the full (exact) name of the file to be found
+	 * @return File the file found, or null if there is no file with that name
+	 */
+	public static File find(String fileName) {
+		File result = getOrCreateSourceIndex().get(fileName);
+		if (result == null)
+			result = getOrCreateClasspathIndex().get(fileName);
+		return result;
+	}
+
+	/**
+	 * Returns every file in the src directory with the given extension. Only the file that find() would
+	 * return is included for names that exist in more than one place.
+	 *
+	 * @param extension String the extension of the files to return, including the dot (e.g. ".yml")
+	 * @return List&lt;File&gt; the files found
+	 */
+	public static List<File> findAllWithExtension(String extension) {
+		List<File> result = new ArrayList<>();
+		getOrCreateSourceIndex().forEach((name, file) -> {
+			if (name.endsWith(extension))
+				result.add(file);
+		});
+		return result;
+	}
+
+	/**
+	 * Throws away the index so that it is rebuilt the next time a file is requested.
+	 */
+	public static synchronized void invalidate() {
+		sourceFiles = null;
+		classpathFiles = null;
+	}
+
+	/**
+	 * Returns the index of the src directory, building it if it does not exist.
+	 *
+	 * @return Map&lt;String, File&gt; file names mapped to the files in the src directory
+	 */
+	private static Map<String, File> getOrCreateSourceIndex() {
+		var index = sourceFiles;
+		if (index == null) {
+			synchronized (FileIndex.class) {
+				index = sourceFiles;
+				if (index == null) {
+					index = indexSourceDirectory();
+					sourceFiles = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the index of the classpath resources, scanning the classpath if it has not been scanned yet.
+	 *
+	 * @return Map&lt;String, File&gt; file names mapped to the resources on the classpath
+	 */
+	private static Map<String, File> getOrCreateClasspathIndex() {
+		var index = classpathFiles;
+		if (index == null) {
+			synchronized (FileIndex.class) {
+				index = classpathFiles;
+				if (index == null) {
+					index = indexClasspath();
+					classpathFiles = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Walks the src directory once, recording the location of every file.
+	 *
+	 * @return Map&lt;String, File&gt; file names mapped to the files in the src directory
+	 */
+	private static Map<String, File> indexSourceDirectory() {
+		Map<String, List<File>> filesFound = new HashMap<>();
+		boolean watch = Configuration.toBoolean("fileIndexWatch");
+		if (Files.isDirectory(SOURCE_DIRECTORY)) {
+			try {
+				Files.walkFileTree(SOURCE_DIRECTORY, new SimpleFileVisitor<Path>() {
+					@Override
+					public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes) {
+						if (watch)
+							watchDirectory(directory);
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+						filesFound.computeIfAbsent(file.getFileName().toString(), name -> new ArrayList<>(1))
+							.add(file.toFile().getAbsoluteFile());
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFileFailed(Path file, IOException e) {
+						log.warn("Unable to read {} while indexing the src directory. Error: {}", file.toAbsolutePath(), e.getMessage());
+						return FileVisitResult.CONTINUE;
+					}
+				});
+			} catch (IOException e) {
+				log.warn("Unable to index the src directory. Error: {}", e.getMessage());
+			}
+		}
+		log.debug("Indexed {} file names in the src directory.", filesFound.size());
+		return toIndex(filesFound, "src directory");
+	}
+
+	/**
+	 * Scans the classpath once, recording the location of every resource other than compiled classes.
+	 *
+	 * @return Map&lt;String, File&gt; file names mapped to the resources on the classpath
+	 */
+	private static Map<String, File> indexClasspath() {
+		Map<String, List<File>> filesFound = new HashMap<>();
+		try (ScanResult scanResult = new ClassGraph().scan()) {
+			for (URL url : scanResult.getAllResources().getURLs()) {
+				String fileName = new File(url.getFile()).getName();
+				if (!fileName.endsWith(".class"))
+					filesFound.computeIfAbsent(fileName, name -> new ArrayList<>(1)).add(new File(url.getPath()));
+			}
+		}
+		long repeatedNames = filesFound.values().stream().filter(files -> files.size() > 1).count();
+		log.debug("Indexed {} file names on the classpath. {} names were found more than once and the first location found will be used.", filesFound.size(), repeatedNames);
+		return toIndex(filesFound, null);
+	}
+
+	/**
+	 * Keeps the first file found for each name, logging a warning for any name found in more than one place
+	 * if a source is given.
+	 *
+	 * @param filesFound Map&lt;String, List&lt;File&gt;&gt; every location found for each file name
+	 * @param source String where the files were found, used in the warning message, or null to not warn
+	 * @return Map&lt;String, File&gt; an unmodifiable map of each file name to the first file found
+	 */
+	private static Map<String, File> toIndex(Map<String, List<File>> filesFound, String source) {
+		Map<String, File> index = new HashMap<>(filesFound.size() * 2);
+		filesFound.forEach((name, files) -> {
+			if (source != null && files.size() > 1)
+				log.warn("The file name {} was found {} times on the {}: {}. {} will be used.", name, files.size(), source, files, files.get(0));
+			index.put(name, files.get(0));
+		});
+		return Collections.unmodifiableMap(index);
+	}
+
+	/**
+	 * Registers a directory with the watch service, starting the service the first time it is called.
+	 * Any change in a watched directory invalidates the src index.
+	 *
+	 * @param directory Path the directory to watch
+	 */
+	private static synchronized void watchDirectory(Path directory) {
+		try {
+			if (watchService == null) {
+				watchService = FileSystems.getDefault().newWatchService();
+				var watcher = new Thread(FileIndex::processWatchEvents, "sentinel-file-index-watcher");
+				watcher.setDaemon(true);
+				watcher.start();
+			}
+			directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.OVERFLOW);
+		} catch (IOException e) {
+			log.warn("Unable to watch {} for changes. Error: {}", directory.toAbsolutePath(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Waits for changes in the watched directories and throws away the src index whenever one happens.
+	 */
+	private static void processWatchEvents() {
+		try {
+			while (true) {
+				WatchKey watchKey = watchService.take();
+				if (!watchKey.pollEvents().isEmpty()) {
+					log.trace("Change detected in {}. The src file index will be rebuilt.", watchKey.watchable());
+					sourceFiles = null;
+				}
+				watchKey.reset();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ClosedWatchServiceException e) {
+			log.trace("File index watch service closed.");
+		}
+	}
+}
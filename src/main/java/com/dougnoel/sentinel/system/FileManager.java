@@ -4,14 +4,10 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 
 import com.dougnoel.sentinel.files.TestFile;
-import io.github.classgraph.ClassGraph;
-import io.github.classgraph.ScanResult;
 import org.apache.commons.io.FileUtils;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.AccessDeniedException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
@@ -34,48 +30,49 @@ public class FileManager {
 	private static final Logger log = LogManager.getLogger(FileManager.class);
 	private static final String IMAGE_DIRECTORY = "logs" + File.separator + "images";
 
-	private static TestFile currentTestFile = null;
+	private static final ThreadLocal<TestFile> currentTestFile = new ThreadLocal<>();
 
 	private FileManager() {} //Exists to defeat instantiation.
 	
 	/**
 	 * Take the path of a javscript file in linux format and converts it to load on any OS.
 	 * (E.G. "src/main/resources/scripts/DragDrop.js")
-	 * It returns the javascript file contents as a String for execution.
-	 * 
+	 * It returns the javascript file contents as a String for execution. If the file is not on disk
+	 * (e.g. Sentinel is being used as a jar dependency) the script is loaded from the classpath instead.
+	 *
 	 * @param path String The path to find the javascript file.
 	 * @return String The javascript file contents.
 	 * @throws IOException if the file cannot be read
 	 */
-	
+
 	public static String loadJavascript(String path) throws IOException {
-		path = convertPathSeparators(path);
-		byte[] encoded = Files.readAllBytes(Paths.get(path));
-	    return new String(encoded, StandardCharsets.UTF_8);
+		var filePath = Paths.get(convertPathSeparators(path));
+		if (Files.exists(filePath)) {
+			byte[] encoded = Files.readAllBytes(filePath);
+			return new String(encoded, StandardCharsets.UTF_8);
+		}
+
+		String resourceName = StringUtils.removeStart(path, "src/main/resources/");
+		try (var stream = FileManager.class.getClassLoader().getResourceAsStream(resourceName)) {
+			if (stream == null)
+				throw new FileNotFoundException(SentinelStringUtils.format("The javascript file {} could not be found on disk or on the classpath.", path));
+			return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+		}
 	}
 
 	/**
 	 * Returns the absolute path to the file searching the root directory of the project
 	 * and any sub directories.
 	 * If file is not found there, this method searches the java classpath for a file matching the given filename. This check encompasses all resources on the classpath.
+	 * Both locations are indexed the first time they are searched, so later lookups do not touch the disk.
 	 * See <a href="https://docs.oracle.com/javase/tutorial/essential/environment/paths.html">official Oracle documentation</a>
 	 * and <a href="https://github.com/classgraph/classgraph">the github repo we use for classpath searching.</a>
+	 * @see com.dougnoel.sentinel.system.FileIndex
 	 * @param fileName String the full (exact) name of file to be found
 	 * @return File the file found
 	 */
 	public static File findFilePath(String fileName) {
-		File result = searchDirectory(new File("src" + File.separator), fileName);
-
-		if(result == null){
-			List<URL> resourceNames;
-			try (ScanResult scanResult = new ClassGraph().scan()) {
-				resourceNames = scanResult.getAllResources().getURLs();
-			}
-			Optional<URL> filePath = resourceNames.stream().filter(url -> (new File(url.getFile()).getName().equals(fileName))).findFirst();
-			if(filePath.isPresent()) {
-				result = new File(filePath.get().getPath());
-			}
-		}
+		File result = FileIndex.find(fileName);
 
 		if (result == null) {
 			var errorMessage = SentinelStringUtils.format("Failed to locate the {} file. Please ensure the file exists in the src directory or its subdirectories, or on the class path.", fileName);
@@ -83,35 +80,6 @@ public class FileManager {
 		}
 		return result;
 	}
-	
-	/**
-	 * Returns a File handler to a file if it is found in the given directory or any
-	 * sub-directories.
-	 * 
-	 * @param directory File the directory to start the search
-	 * @param fileName String the full name of the file with extension to find
-	 * @return File the file that is found, null if nothing is found
-	 */
-	protected static File searchDirectory(File directory, String fileName) {
-		log.trace("Searching directory {}", directory.getAbsoluteFile());
-		File searchResult = null;
-		if (directory.canRead()) {
-			for (File temp : directory.listFiles()) {
-				if (temp.isDirectory()) {
-					searchResult = searchDirectory(temp, fileName);
-				} else {
-					if (fileName.equals(temp.getName()))
-						searchResult = temp.getAbsoluteFile();
-				}
-				if (searchResult != null) {
-					break;
-				}
-			}
-		} else {
-			throw new FileException(new AccessDeniedException("Access denied."), directory);
-		}
-		return searchResult;
-	}
 
 	/**
 	 * Returns a valid class path for instantiating a java class given a class name.
@@ -268,7 +236,7 @@ public class FileManager {
 	 * @param file TestFile the file to test
 	 */
 	public static void setCurrentTestFile(TestFile file){
-		currentTestFile = file;
+		currentTestFile.set(file);
 	}
 
 	/**
@@ -276,6 +244,13 @@ public class FileManager {
 	 * @return TestFile the file under test.
 	 */
 	public static TestFile getCurrentTestFile(){
-		return currentTestFile;
+		return currentTestFile.get();
+	}
+
+	/**
+	 * Forgets the current file under test for the current thread.
+	 */
+	public static void clearCurrentTestFile(){
+		currentTestFile.remove();
 	}
 }
\ No newline at end of file
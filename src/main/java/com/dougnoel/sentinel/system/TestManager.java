@@ -1,13 +1,25 @@
 package com.dougnoel.sentinel.system;
 
+/**
+ * Tracks the page or API object the test is currently using. Each thread tracks its own object
+ * so that scenarios can run in parallel.
+ */
 public class TestManager {
-	private static YAMLObject activeTestObject = null;
+	private static final ThreadLocal<YAMLObject> activeTestObject = new ThreadLocal<>();
 	
 	public static void setActiveTestObject(YAMLObject yamlObject) {
-		activeTestObject = yamlObject;
+		activeTestObject.set(yamlObject);
 	}
 	public static YAMLObject getActiveTestObject() {
-		return activeTestObject;
+		return activeTestObject.get();
+	}
+
+	/**
+	 * Forgets the active test object for the current thread, so that the next scenario run on the thread
+	 * does not start with the object the last one used.
+	 */
+	public static void clear() {
+		activeTestObject.remove();
 	}
 	
 	private TestManager() {
@@ -1,16 +1,22 @@
 package com.dougnoel.sentinel.webdrivers;
 
 import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import com.dougnoel.sentinel.enums.PageObjectType;
 import com.dougnoel.sentinel.pages.PageManager;
 import org.openqa.selenium.WebDriver;
 
 /**
  * Manages all drivers. Maintains as few drivers as possible for test execution.
- * Currently we store one driver for browsers and one for Windows. We can add an appium driver here as well.
+ * Currently we store one driver for browsers and one for Windows for each thread, so that scenarios
+ * running in parallel each get their own drivers. We can add an appium driver here as well.
  */
 public class Driver {
-	private static EnumMap<PageObjectType, SentinelDriver> drivers = new EnumMap<> (PageObjectType.class);
+	private static final Map<Long, EnumMap<PageObjectType, SentinelDriver>> drivers = new ConcurrentHashMap<>();
+	// Counts the page and window changes made by each thread, so that element references found before a change are not reused.
+	private static final ThreadLocal<Integer> pageChanges = ThreadLocal.withInitial(() -> 0);
 	
 	/**
 	 * Exists only to defeat instantiation.
@@ -25,12 +31,13 @@ public class Driver {
      */
     private static SentinelDriver getSentinelDriver() {
     	PageObjectType pageObjectType = PageManager.getPage().getPageObjectType();
+    	var threadDrivers = drivers.computeIfAbsent(Thread.currentThread().getId(), thread -> new EnumMap<>(PageObjectType.class));
     	SentinelDriver currentDriver = null;
     	if (pageObjectType == PageObjectType.EXECUTABLE) {
-    		currentDriver = drivers.computeIfAbsent(pageObjectType, driver -> new SentinelDriver(WindowsDriverFactory.createWindowsDriver()));
+    		currentDriver = threadDrivers.computeIfAbsent(pageObjectType, driver -> new SentinelDriver(WindowsDriverFactory.createWindowsDriver()));
     	}
     		else {
-    		currentDriver = drivers.computeIfAbsent(pageObjectType, driver -> new SentinelDriver(WebDriverFactory.getWebDriver()));
+    		currentDriver = threadDrivers.computeIfAbsent(pageObjectType, driver -> new SentinelDriver(WebDriverFactory.getWebDriver()));
         }
     	return currentDriver;
     }
@@ -45,17 +52,48 @@ public class Driver {
     }
 
     /**
-     * Quits all drivers and removes them from the list of active drivers.
+     * Records that the current thread has moved to another page or window, so that any element
+     * references found before now are looked up again instead of being reused.
+     */
+    public static void pageChanged() {
+    	pageChanges.set(pageChanges.get() + 1);
+    }
+
+    /**
+     * Returns the number of page and window changes the current thread has made. An element reference
+     * found when this number was different may no longer be valid.
+     * 
+     * @return int the number of page and window changes
+     */
+    public static int getPageChangeCount() {
+    	return pageChanges.get();
+    }
+
+    /**
+     * Quits all drivers on every thread and removes them from the list of active drivers.
+     * Meant to be called once all tests have finished.
      */
     public static void quitAllDrivers() {
-    	drivers.forEach((driverType, driver) -> driver.quit());
+    	drivers.forEach((thread, threadDrivers) -> threadDrivers.forEach((driverType, driver) -> driver.quit()));
     	drivers.clear();
     }
+
+    /**
+     * Quits the drivers created by the current thread and removes them from the list of active drivers.
+     * Drivers being used by scenarios running on other threads are left open.
+     */
+    public static void quitDrivers() {
+    	pageChanged();
+    	var threadDrivers = drivers.remove(Thread.currentThread().getId());
+    	if (threadDrivers != null)
+    		threadDrivers.forEach((driverType, driver) -> driver.quit());
+    }
     
     /**
      * Closes the current window and moves the driver to the previous window.
      */
     public static void closeWindow() {
+    	pageChanged();
     	getSentinelDriver().close();
     }
     
@@ -65,6 +103,7 @@ public class Driver {
      * and will test to make sure they are in the correct window.
      */
     public static void goToNextWindow() {
+    	pageChanged();
     	getSentinelDriver().goToNextWindow();
     }
 
@@ -75,6 +114,7 @@ public class Driver {
 	 * and will test to make sure they are in the correct window.
 	 */
 	public static void goToNewWindow() {
+		pageChanged();
 		getSentinelDriver().goToNewWindow();
 	}
 
@@ -83,6 +123,7 @@ public class Driver {
 	 * @param title String the title of the window to switch to.
 	 */
 	public static void goToTitledWindow(String title) {
+		pageChanged();
 		getSentinelDriver().goToTitledWindow(title);
 	}
 
@@ -91,6 +132,7 @@ public class Driver {
 	 * @param titleContains String the partial title of the window to switch to.
 	 */
 	public static void goToTitledWindowThatContains(String titleContains) {
+		pageChanged();
 		getSentinelDriver().goToTitledWindowThatContains(titleContains);
 	}
 
@@ -109,6 +151,7 @@ public class Driver {
      * testing and will test to make sure they are in the correct window.
      */
     public static void goToPreviousWindow() {
+    	pageChanged();
     	getSentinelDriver().goToPreviousWindow();
     }
     
@@ -116,6 +159,7 @@ public class Driver {
 	 * Asks the current driver to emulate clicking the browser's forward button.
 	 */
 	public static void navigateForward() {
+		pageChanged();
 		getSentinelDriver().navigateForward();
 	}
 
@@ -123,6 +167,7 @@ public class Driver {
 	 * Asks the current driver to emulate clicking the browser's back button.
 	 */
 	public static void navigateBack() {
+		pageChanged();
 		getSentinelDriver().navigateBack();
 	}
 
@@ -130,6 +175,7 @@ public class Driver {
 	 * Asks the current driver to emulate clicking the browser's refresh button.
 	 */
 	public static void refresh() {
+		pageChanged();
 		getSentinelDriver().refresh();
 	}
 	
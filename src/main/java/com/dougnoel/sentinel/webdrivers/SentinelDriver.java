@@ -125,7 +125,7 @@ public class SentinelDriver {
 				//There was an error quitting a windows driver from Appium but the session exception does not handle it due to threading
 			}
 		else {
-			WebDriverFactory.quit();
+			WebDriverFactory.quit(driver);
 		}
 		pages.clear();
 		windows.clear();
@@ -1,6 +1,8 @@
 package com.dougnoel.sentinel.webdrivers;
 
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,10 +26,11 @@ import io.github.bonigarcia.wdm.WebDriverManager;
 /**
  * This object factory is used to keep up with driver versions for all browsers.
  * For a list of supported browsers and operating systems, see the readme.
+ * Each thread gets its own driver so that scenarios can run in parallel.
  */
 public class WebDriverFactory {
     private static final Logger log = LogManager.getLogger(WebDriverFactory.class);
-    private static WebDriver driver = null;
+    private static final Map<Long, WebDriver> drivers = new ConcurrentHashMap<>();
 
     private WebDriverFactory() {
         // Exists only to defeat instantiation.
@@ -44,11 +47,22 @@ public class WebDriverFactory {
      * combination.
      */
     protected static WebDriver instantiateWebDriver() {
+        WebDriver driver = createWebDriver();
+        drivers.put(Thread.currentThread().getId(), driver);
+        return driver;
+    }
+
+    /**
+     * Creates a WebDriver for the configured browser, or for Saucelabs or a Selenium Grid if one is configured.
+     *
+     * @return WebDriver the created Selenium WebDriver
+     */
+    private static WebDriver createWebDriver() {
+        WebDriver driver;
         //Saucelabs Driver setup
         var saucelabsUserName = Configuration.toString("saucelabsUserName");
         if (saucelabsUserName != null) {
-            driver = SauceLabsDriverFactory.createSaucelabsDriver(); //NOTE: Returning the driver here so that we do not need an extra else statement but it must be set before being returned.
-            return driver;
+            return SauceLabsDriverFactory.createSaucelabsDriver();
         }
 
         var browser = Configuration.browser();
@@ -56,8 +70,7 @@ public class WebDriverFactory {
         //Grid Driver setup
         var gridUrl = Configuration.toString("gridUrl");
         if (gridUrl != null) {
-            driver = GridWebDriverFactory.createGridDriver(browser, gridUrl);
-            return driver;
+            return GridWebDriverFactory.createGridDriver(browser, gridUrl);
         }
 
         // Initialize the driver object based on the browser and operating system (OS).
@@ -100,27 +113,42 @@ public class WebDriverFactory {
      * @return WebDriver the created Selenium WebDriver
      */
     public static WebDriver getWebDriver() {
+        WebDriver driver = drivers.get(Thread.currentThread().getId());
         if (driver == null) {
-            instantiateWebDriver();
+            driver = instantiateWebDriver();
             log.info("Driver created: {}", driver);
         }
         return driver;
     }
 
     /**
-     * Quits the driver and sets the driver instance back to null.
+     * Quits the driver for the current thread and removes it.
      */
     protected static void quit() {
         if (exists()) {
-            getWebDriver().quit();
-            driver = null;
+            quit(getWebDriver());
         } else {
             log.info("Attempted to call quit on a driver that did not exist.");
         }
     }
 
+    /**
+     * Quits the given driver and removes it, whichever thread created it.
+     *
+     * @param driver WebDriver the driver to quit
+     */
+    protected static void quit(WebDriver driver) {
+        driver.quit();
+        drivers.values().remove(driver);
+    }
+
+    /**
+     * Returns true if a driver has been created for the current thread.
+     *
+     * @return boolean true if the current thread has a driver
+     */
     public static boolean exists() {
-        return driver != null;
+        return drivers.containsKey(Thread.currentThread().getId());
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.dougnoel.sentinel.webdrivers;
 
+import com.dougnoel.sentinel.configurations.Poller;
 import com.dougnoel.sentinel.configurations.Time;
 import com.dougnoel.sentinel.strings.SentinelStringUtils;
 import org.openqa.selenium.NoSuchWindowException;
@@ -102,10 +103,8 @@ public class WindowList {
 	 * @return the handle of the window that has the title expected
 	 */
 	private String getHandleFromTitle(String title, boolean contains) {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); // fetch starting time
-
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while (poller.poll()) {
 			refreshWindows();
 			String handleWithMatchingTitle = null;
 			if(contains){
@@ -162,10 +161,8 @@ public class WindowList {
 	 * Wait for a new window to be added, and moves the driver to the last window added.
 	 */
 	protected void goToNewWindow() {
-		long searchTime = Time.out().getSeconds() * 1000;
-		long startTime = System.currentTimeMillis(); // fetch starting time
-
-		while ((System.currentTimeMillis() - startTime) < searchTime) {
+		var poller = Poller.start();
+		while (poller.poll()) {
 			int addedWindows = 0;
 			try {
 				addedWindows = addNewWindows();
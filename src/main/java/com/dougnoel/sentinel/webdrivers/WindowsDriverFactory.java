@@ -46,7 +46,7 @@ public class WindowsDriverFactory {
 	 *
 	 * @return WebDriver returns a WindowsDriver&lt;WebElement&gt;
 	 */
-	protected static WebDriver createWindowsDriver() {
+	protected static synchronized WebDriver createWindowsDriver() {
 		if (numberOfDriversRunning == 0)
 			startAppiumService();
 
@@ -79,7 +79,7 @@ public class WindowsDriverFactory {
 	 *
 	 * @param driver WindowsDriver&lt;WebElement&gt; the WindowsDriver to quit
 	 */
-	protected static void quit(WindowsDriver<WebElement> driver) {
+	protected static synchronized void quit(WindowsDriver<WebElement> driver) {
 		driver.quit();
 		numberOfDriversRunning -= 1;
 		if (numberOfDriversRunning <= 0) {
@@ -0,0 +1,68 @@
+/*
+ * Reads the state of an element in one pass.
+ * arguments[0] - the element
+ * arguments[1] - the names of any attributes to read
+ * Returns an object containing the text, value, attributes, displayed, enabled, readOnly and selected state,
+ * the bounding rectangle relative to the page, and the background color of the element or, if it is
+ * transparent, of the first parent that is not.
+ */
+var element = arguments[0];
+var attributeNames = arguments[1];
+
+function isDisplayed(target) {
+    if (!target.isConnected || target.getClientRects().length === 0)
+        return false;
+    var style = window.getComputedStyle(target);
+    return style.visibility !== 'hidden' && style.visibility !== 'collapse' && parseFloat(style.opacity) !== 0;
+}
+
+function normalize(text) {
+    return text.replace(/\u00a0/g, ' ')
+        .split('\n')
+        .map(function (line) { return line.replace(/[ \t\r]+/g, ' ').trim(); })
+        .filter(function (line) { return line.length > 0; })
+        .join('\n');
+}
+
+function isTransparent(color) {
+    return color === 'transparent' || /^rgba\(\s*\d+\s*,\s*\d+\s*,\s*\d+\s*,\s*0\s*\)$/.test(color);
+}
+
+function backgroundColor(target) {
+    for (var current = target; current && current.nodeType === Node.ELEMENT_NODE; current = current.parentElement) {
+        var color = window.getComputedStyle(current).backgroundColor;
+        if (!isTransparent(color))
+            return color;
+    }
+    return null;
+}
+
+var displayed = isDisplayed(element);
+var attributes = {};
+for (var i = 0; i < attributeNames.length; i++) {
+    var name = attributeNames[i];
+    var property = element[name === 'class' ? 'className' : name === 'readonly' ? 'readOnly' : name];
+    // Boolean attributes are "true" when set and null when not, the same as WebElement.getAttribute().
+    if (typeof property === 'boolean')
+        attributes[name] = property ? 'true' : null;
+    else if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function')
+        attributes[name] = String(property);
+    else
+        attributes[name] = element.getAttribute(name);
+}
+
+var rect = element.getBoundingClientRect();
+return {
+    text: displayed ? normalize(element.innerText || '') : '',
+    value: element.value === undefined || element.value === null ? null : String(element.value),
+    attributes: attributes,
+    displayed: displayed,
+    enabled: !element.disabled,
+    readOnly: !!element.readOnly || element.getAttribute('readonly') !== null,
+    selected: !!(element.checked || element.selected),
+    x: Math.round(rect.left + window.pageXOffset),
+    y: Math.round(rect.top + window.pageYOffset),
+    width: Math.round(rect.width),
+    height: Math.round(rect.height),
+    backgroundColor: backgroundColor(element)
+};
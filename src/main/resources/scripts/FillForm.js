@@ -0,0 +1,41 @@
+/*
+ * Sets the value of several form fields in one pass, firing the events a user typing into each field would fire
+ * so that frameworks such as Angular and React see the change.
+ * arguments[0] - the field elements
+ * arguments[1] - the values, in the same order as the elements
+ * Returns an array with true for each field that was set, and false for each field that must be filled in
+ * another way (e.g. a disabled, read only, file, checkbox or radio input, or an element that is not a text field).
+ */
+var fields = arguments[0];
+var values = arguments[1];
+var textInputTypes = ['', 'text', 'search', 'email', 'password', 'tel', 'url', 'number', 'date', 'datetime-local', 'month', 'time', 'week'];
+
+function canSet(field) {
+    if (field.disabled || field.readOnly)
+        return false;
+    if (field instanceof HTMLTextAreaElement)
+        return true;
+    return field instanceof HTMLInputElement && textInputTypes.indexOf((field.getAttribute('type') || '').toLowerCase()) >= 0;
+}
+
+function setValue(field, value) {
+    // Use the prototype setter so frameworks that track the value property see the change.
+    var prototype = field instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;
+    Object.getOwnPropertyDescriptor(prototype, 'value').set.call(field, value);
+    field.dispatchEvent(new Event('input', { bubbles: true }));
+    field.dispatchEvent(new Event('change', { bubbles: true }));
+}
+
+var set = [];
+for (var i = 0; i < fields.length; i++) {
+    var field = fields[i];
+    if (!canSet(field)) {
+        set.push(false);
+        continue;
+    }
+    field.focus();
+    setValue(field, values[i]);
+    field.blur();
+    set.push(true);
+}
+return set;
@@ -0,0 +1,63 @@
+/*
+ * Tries every selector for an element in one pass and returns the first match.
+ * arguments[0] - the selector types, in the order they should be tried (e.g. CSS, ID, XPATH)
+ * arguments[1] - the selector values, in the same order as the types
+ * Returns an object containing the element found (or null) and the index of the selector that found it (or -1).
+ * If a selector is not valid or cannot be evaluated here, returns an object with fallback set to true so that
+ * the caller can try each selector with the driver and report the problem the same way it always has.
+ */
+var types = arguments[0];
+var values = arguments[1];
+
+function first(list) {
+    return list.length > 0 ? list[0] : null;
+}
+
+function linkWithText(text, partial) {
+    var links = document.getElementsByTagName('a');
+    for (var i = 0; i < links.length; i++) {
+        var linkText = (links[i].innerText || '').trim();
+        if (partial ? linkText.indexOf(text) >= 0 : linkText === text)
+            return links[i];
+    }
+    return null;
+}
+
+function find(type, value) {
+    switch (type) {
+        case 'CLASS':
+            if (/\s/.test(value.trim()))
+                throw new Error('Compound class names are not permitted');
+            return first(document.getElementsByClassName(value));
+        case 'CSS':
+            return document.querySelector(value);
+        case 'ID':
+            return document.getElementById(value);
+        case 'NAME':
+            return first(document.getElementsByName(value));
+        case 'PARTIALTEXT':
+            return linkWithText(value, true);
+        case 'TEXT':
+            return linkWithText(value, false);
+        case 'XPATH':
+            var node = document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+            if (node !== null && node.nodeType !== Node.ELEMENT_NODE)
+                throw new Error('The xpath does not select an element');
+            return node;
+        default:
+            throw new Error('Unsupported selector type ' + type);
+    }
+}
+
+for (var i = 0; i < types.length; i++) {
+    var element;
+    try {
+        element = find(types[i], values[i]);
+    } catch (e) {
+        return { fallback: true };
+    }
+    if (element)
+        return { element: element, index: i };
+}
+
+return { element: null, index: -1 };
@@ -0,0 +1,97 @@
+/*
+ * Reads the headers and the text of every cell in a table in one pass.
+ * arguments[0] - the table element
+ * arguments[1] - the tag name of the header cells (e.g. th)
+ * arguments[2] - the xpath, relative to the table, used to find the rows
+ * arguments[3] - the tag name of the data cells (e.g. td)
+ * arguments[4] - the xpath, relative to a data cell, of the element holding the cell text when the cell itself has none
+ * arguments[5] - true to return a fingerprint of each row so that a later call can skip the rows that have not changed
+ * arguments[6] - the row fingerprints returned by an earlier call, or null to read every row
+ * Returns an object containing a headers array, a two dimensional rows array and, if asked for, a hashes array.
+ * A row whose fingerprint matches the one at the same index in arguments[6] is not read and is null in the rows array.
+ */
+var table = arguments[0];
+var headerTag = arguments[1];
+var rowLocator = arguments[2];
+var cellTag = arguments[3];
+var cellInteriorLocator = arguments[4];
+var fingerprintRows = arguments[5] === true;
+var previousHashes = arguments[6] || null;
+
+function isRendered(element) {
+    return element.getClientRects().length > 0;
+}
+
+function normalize(text) {
+    return text.replace(/\u00a0/g, ' ')
+        .split('\n')
+        .map(function (line) { return line.replace(/[ \t\r]+/g, ' ').trim(); })
+        .filter(function (line) { return line.length > 0; })
+        .join('\n');
+}
+
+function textOf(element) {
+    if (!isRendered(element))
+        return '';
+    return normalize(element.innerText || '');
+}
+
+function cellData(cell) {
+    var data = textOf(cell);
+    if (!data && cellInteriorLocator) {
+        var interior = document.evaluate('.' + cellInteriorLocator, cell, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        if (interior)
+            data = textOf(interior);
+    }
+    if (!data.trim()) {
+        var input = cell.getElementsByTagName('input')[0];
+        if (input)
+            data = input.value;
+    }
+    return data;
+}
+
+// A cheap fingerprint of everything in a row that can change its cell data: the text (without computing the
+// rendered text, which is the expensive part of reading a cell), the values of any inputs and whether it is shown.
+function fingerprint(row) {
+    var content = (isRendered(row) ? '1' : '0') + row.textContent;
+    var inputs = row.getElementsByTagName('input');
+    for (var i = 0; i < inputs.length; i++) {
+        content += '\u0001' + inputs[i].value;
+    }
+    var hash = 0x811c9dc5;
+    for (var c = 0; c < content.length; c++) {
+        hash ^= content.charCodeAt(c);
+        hash = Math.imul(hash, 0x01000193);
+    }
+    return content.length + ':' + (hash >>> 0).toString(16);
+}
+
+var headers = [];
+var headerElements = table.getElementsByTagName(headerTag);
+for (var h = 0; h < headerElements.length; h++) {
+    headers.push(textOf(headerElements[h]));
+}
+
+var rows = [];
+var hashes = fingerprintRows ? [] : null;
+var rowElements = document.evaluate(rowLocator, table, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+for (var r = 0; r < rowElements.snapshotLength; r++) {
+    var rowElement = rowElements.snapshotItem(r);
+    if (fingerprintRows) {
+        var hash = fingerprint(rowElement);
+        hashes.push(hash);
+        if (previousHashes && r < previousHashes.length && previousHashes[r] === hash) {
+            rows.push(null);
+            continue;
+        }
+    }
+    var cells = rowElement.getElementsByTagName(cellTag);
+    var row = [];
+    for (var c = 0; c < cells.length; c++) {
+        row.push(cellData(cells[c]));
+    }
+    rows.push(row);
+}
+
+return { headers: headers, rows: rows, hashes: hashes };
@@ -0,0 +1,145 @@
+/*
+ * Reads the rows of a table that are rendered now, then scrolls the table down by one screen so that a table that
+ * only renders the rows in view (e.g. ngx-datatable with virtual scrolling) renders the next ones. Run it with
+ * executeAsyncScript until it reports the end of the table.
+ * arguments[0] - the table element
+ * arguments[1] - the tag name of the header cells (e.g. th)
+ * arguments[2] - the xpath, relative to the table, used to find the rows
+ * arguments[3] - the tag name of the data cells (e.g. td)
+ * arguments[4] - the xpath, relative to a data cell, of the element holding the cell text when the cell itself has none
+ * arguments[5] - the header of the column that identifies each row, or null to identify rows by where they sit in the table
+ * arguments[6] - true on the first call, to scroll the table to the top before reading it
+ * arguments[7] - the scrolling element returned by the first call, or null on the first call
+ * Returns an object containing the headers, the rows read (each with a key and its cells), whether the table could
+ * not be scrolled any further, and on the first call the scrolling element and where it was scrolled to before.
+ * If the key column does not exist, returns an object containing an error message instead.
+ */
+var table = arguments[0];
+var headerTag = arguments[1];
+var rowLocator = arguments[2];
+var cellTag = arguments[3];
+var cellInteriorLocator = arguments[4];
+var keyColumn = arguments[5];
+var firstCall = arguments[6] === true;
+var knownContainer = arguments[7] || null;
+var callback = arguments[arguments.length - 1];
+
+function isRendered(element) {
+    return element.getClientRects().length > 0;
+}
+
+function normalize(text) {
+    return text.replace(/\u00a0/g, ' ')
+        .split('\n')
+        .map(function (line) { return line.replace(/[ \t\r]+/g, ' ').trim(); })
+        .filter(function (line) { return line.length > 0; })
+        .join('\n');
+}
+
+function textOf(element) {
+    if (!isRendered(element))
+        return '';
+    return normalize(element.innerText || '');
+}
+
+function cellData(cell) {
+    var data = textOf(cell);
+    if (!data && cellInteriorLocator) {
+        var interior = document.evaluate('.' + cellInteriorLocator, cell, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+        if (interior)
+            data = textOf(interior);
+    }
+    if (!data.trim()) {
+        var input = cell.getElementsByTagName('input')[0];
+        if (input)
+            data = input.value;
+    }
+    return data;
+}
+
+function rowElements() {
+    var found = document.evaluate(rowLocator, table, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+    var rows = [];
+    for (var r = 0; r < found.snapshotLength; r++) {
+        rows.push(found.snapshotItem(r));
+    }
+    return rows;
+}
+
+// The closest element above the rows that scrolls them, or the page itself if nothing else does.
+function scrollContainer(rows) {
+    var start = rows.length > 0 ? rows[0].parentElement : table;
+    for (var element = start; element && element !== document.body && element !== document.documentElement; element = element.parentElement) {
+        var overflowY = window.getComputedStyle(element).overflowY;
+        if (element.scrollHeight > element.clientHeight && (overflowY === 'auto' || overflowY === 'scroll'))
+            return element;
+    }
+    return document.scrollingElement || document.documentElement;
+}
+
+// Where the top of the row sits in the scrolled content, which stays the same however far the table is scrolled.
+function positionOf(row, container) {
+    var top = row.getBoundingClientRect().top;
+    if (container === document.scrollingElement || container === document.documentElement)
+        return Math.round(top + window.pageYOffset);
+    return Math.round(top - container.getBoundingClientRect().top + container.scrollTop);
+}
+
+// Gives the page time to render the rows that scrolled into view.
+function afterRender(next) {
+    window.requestAnimationFrame(function () {
+        window.requestAnimationFrame(function () {
+            setTimeout(next, 0);
+        });
+    });
+}
+
+function readAndScroll(container, result) {
+    var headers = [];
+    var headerElements = table.getElementsByTagName(headerTag);
+    for (var h = 0; h < headerElements.length; h++) {
+        headers.push(textOf(headerElements[h]).replace(/[\t\n\r]+/g, ' ').trim());
+    }
+    var keyIndex = keyColumn === null || keyColumn === undefined ? -1 : headers.indexOf(keyColumn);
+    if (keyIndex < 0 && keyColumn !== null && keyColumn !== undefined) {
+        callback({ error: 'No column found with header ' + keyColumn });
+        return;
+    }
+
+    var rows = [];
+    var elements = rowElements();
+    for (var r = 0; r < elements.length; r++) {
+        var cells = elements[r].getElementsByTagName(cellTag);
+        var row = [];
+        for (var c = 0; c < cells.length; c++) {
+            row.push(cellData(cells[c]));
+        }
+        var key;
+        if (keyIndex >= 0)
+            key = 'column:' + (keyIndex < row.length ? row[keyIndex] : '');
+        else if (isRendered(elements[r]))
+            key = 'position:' + positionOf(elements[r], container);
+        else
+            key = 'hidden:' + row.join('\u0001');
+        rows.push({ key: key, cells: row });
+    }
+
+    var before = container.scrollTop;
+    container.scrollTop = before + Math.max(container.clientHeight, 1);
+    result.headers = headers;
+    result.rows = rows;
+    result.atEnd = container.scrollTop <= before;
+    if (result.atEnd)
+        callback(result);
+    else
+        afterRender(function () { callback(result); });
+}
+
+var container = knownContainer || scrollContainer(rowElements());
+if (firstCall) {
+    var result = { container: container, originalScrollTop: container.scrollTop };
+    container.scrollTop = 0;
+    afterRender(function () { readAndScroll(container, result); });
+} else {
+    readAndScroll(container, {});
+}
@@ -0,0 +1,73 @@
+/*
+ * Waits in the browser for a condition on an element to be met, checking it each time the page changes
+ * instead of being asked by the driver. Must be run with executeAsyncScript.
+ * arguments[0] - the element to watch
+ * arguments[1] - the condition to wait for: visible, textPresent or textAbsent
+ * arguments[2] - the text for the textPresent and textAbsent conditions
+ * arguments[3] - the number of milliseconds to wait before giving up
+ * arguments[4] - the number of milliseconds between checks for changes that do not mutate the page (e.g. animations)
+ * Calls back with true as soon as the condition is met, or false if it is not met before the timeout.
+ */
+var element = arguments[0];
+var condition = arguments[1];
+var text = arguments[2];
+var timeout = arguments[3];
+var recheckInterval = arguments[4];
+var callback = arguments[arguments.length - 1];
+
+function isVisible(target) {
+    if (!target.isConnected)
+        return false;
+    var style = window.getComputedStyle(target);
+    if (style.visibility === 'hidden' || style.visibility === 'collapse' || parseFloat(style.opacity) === 0)
+        return false;
+    return target.getClientRects().length > 0;
+}
+
+function hasText(target) {
+    if ((target.innerText || '').indexOf(text) >= 0)
+        return true;
+    return target.value !== undefined && target.value !== null && String(target.value).indexOf(text) >= 0;
+}
+
+function isMet() {
+    try {
+        switch (condition) {
+            case 'visible': return isVisible(element);
+            case 'textPresent': return hasText(element);
+            case 'textAbsent': return !hasText(element);
+            default: return false;
+        }
+    } catch (e) {
+        return false;
+    }
+}
+
+var finished = false;
+var observer = null;
+var recheck = null;
+var timer = null;
+
+function finish(result) {
+    finished = true;
+    observer.disconnect();
+    clearInterval(recheck);
+    clearTimeout(timer);
+    document.removeEventListener('input', check, true);
+    callback(result);
+}
+
+function check() {
+    if (!finished && isMet())
+        finish(true);
+}
+
+if (isMet()) {
+    callback(true);
+} else {
+    observer = new MutationObserver(check);
+    observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });
+    document.addEventListener('input', check, true);
+    recheck = setInterval(check, recheckInterval);
+    timer = setTimeout(function () { finish(isMet()); }, timeout);
+}
@@ -290,4 +290,22 @@ public class ConfigurationTests {
 				SentinelStringUtils.format("Expected to find 2 existing properties in the Configuration with the prefix {}", TEST_PREFIX),
 				2L, Configuration.getNumberOfPropertiesWithPrefix(TEST_PREFIX));
 	}
+
+	@Test
+	public void typedValuesFollowUpdates() {
+		Configuration.update(TEST_VALUE, "12");
+		assertEquals("Expected the updated value as a Long.", Long.valueOf(12L), Configuration.toLong(TEST_VALUE));
+		assertEquals("Expected the updated value as a Double.", 12.0, Configuration.toDouble(TEST_VALUE), 0.0);
+		Configuration.update(TEST_VALUE, "twelve");
+		assertEquals("Expected a value that is not a number to be returned as 0.", Long.valueOf(0L), Configuration.toLong(TEST_VALUE));
+		assertFalse("Expected a value that is not true to be returned as false.", Configuration.toBoolean(TEST_VALUE));
+		Configuration.clear(TEST_VALUE);
+	}
+
+	@Test(expected = FileException.class)
+	public void preloadingDoesNotHideInvalidPageObjects() {
+		Configuration.preloadYAMLData();
+		assertNotNull("Expected valid page objects to be preloaded.", Configuration.getElement("male_radio_button", "CorrectPageObject"));
+		Configuration.getPageObjectType("WebAndExe");
+	}
 }
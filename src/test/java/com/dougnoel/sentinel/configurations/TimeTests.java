@@ -36,4 +36,19 @@ public class TimeTests {
 		Configuration.update(TIMEOUT, 9L);
 		assertEquals("Time.out() is using the passed value when set.", Duration.ofSeconds(9), Time.out());
 	}
+
+	@Test
+	public void pollerBacksOffUntilTheTimeout() {
+		var poller = Poller.start(Duration.ofMillis(300));
+		while (poller.poll()) {
+			// Nothing ever succeeds, so the poller should run until the timeout.
+		}
+		assertTrue("The poller waited for the whole timeout.", poller.elapsed().toMillis() >= 300);
+		assertTrue("The poller backed off instead of spinning: " + poller, poller.getPolls() > 1 && poller.getPolls() < 20);
+	}
+
+	@Test
+	public void pollerWithNoTimeLeftDoesNotPoll() {
+		assertFalse("A poller with a zero timeout does not allow an attempt.", Poller.start(Duration.ZERO).poll());
+	}
 }
@@ -0,0 +1,46 @@
+package com.dougnoel.sentinel.configurations;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class YAMLDataCacheTests {
+
+	@SuppressWarnings("serial")
+	private static class SomeData extends YAMLData {
+		public Map<String, String> elements;
+	}
+
+	@SuppressWarnings("serial")
+	private static class SameFields extends YAMLData {
+		public Map<String, String> elements;
+	}
+
+	@SuppressWarnings("serial")
+	private static class ExtraField extends YAMLData {
+		public Map<String, String> elements;
+		public String added;
+	}
+
+	@SuppressWarnings("serial")
+	private static class RetypedField extends YAMLData {
+		public Map<String, Map<String, String>> elements;
+	}
+
+	@Test
+	public void classesWithTheSameFieldsShareAShape() {
+		assertEquals(YAMLDataCache.getClassShape(SomeData.class), YAMLDataCache.getClassShape(SameFields.class));
+	}
+
+	@Test
+	public void addingAFieldChangesTheShape() {
+		assertNotEquals(YAMLDataCache.getClassShape(SomeData.class), YAMLDataCache.getClassShape(ExtraField.class));
+	}
+
+	@Test
+	public void changingTheTypeOfAFieldChangesTheShape() {
+		assertNotEquals(YAMLDataCache.getClassShape(SomeData.class), YAMLDataCache.getClassShape(RetypedField.class));
+	}
+}
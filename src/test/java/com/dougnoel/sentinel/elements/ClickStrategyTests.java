@@ -0,0 +1,77 @@
+package com.dougnoel.sentinel.elements;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.enums.ClickStrategy;
+import com.dougnoel.sentinel.pages.PageManager;
+
+public class ClickStrategyTests {
+
+	@After
+	public void cleanUpBetweenTests() {
+		Configuration.clear("clickStrategyMemory");
+		PageManager.clear();
+	}
+
+	private static Element element(String name) {
+		return new Element(name, Map.of("id", "submit"));
+	}
+
+	@Test
+	public void strategiesAreTriedInOrderWhenNoneIsRemembered() {
+		assertEquals(List.of(ClickStrategy.NATIVE, ClickStrategy.HOVER, ClickStrategy.JAVASCRIPT), Element.clickOrder(null));
+	}
+
+	@Test
+	public void rememberedStrategyIsTriedFirst() {
+		assertEquals(List.of(ClickStrategy.JAVASCRIPT, ClickStrategy.NATIVE, ClickStrategy.HOVER), Element.clickOrder(ClickStrategy.JAVASCRIPT));
+	}
+
+	@Test
+	public void eachElementRemembersItsOwnStrategyByDefault() {
+		var submit = element("Submit Button");
+		var cancel = element("Cancel Button");
+		submit.rememberClickStrategy(ClickStrategy.HOVER);
+		assertEquals(ClickStrategy.HOVER, submit.getRememberedClickStrategy());
+		assertNull("Expecting other elements not to share the strategy.", cancel.getRememberedClickStrategy());
+
+		submit.rememberClickStrategy(null);
+		assertNull("Expecting the strategy to be forgotten.", submit.getRememberedClickStrategy());
+	}
+
+	@Test
+	public void elementsOnAPageShareTheirStrategy() {
+		Configuration.update("clickStrategyMemory", "page");
+		PageManager.setPage("TextboxPage");
+		var submit = element("Submit Button");
+		var cancel = element("Cancel Button");
+		submit.rememberClickStrategy(ClickStrategy.HOVER);
+		assertEquals(ClickStrategy.HOVER, cancel.getRememberedClickStrategy());
+
+		cancel.rememberClickStrategy(null);
+		assertNull("Expecting the strategy to be forgotten for the page.", submit.getRememberedClickStrategy());
+	}
+
+	@Test
+	public void javascriptClickIsNeverRemembered() {
+		var submit = element("Submit Button");
+		submit.rememberClickStrategy(ClickStrategy.NATIVE);
+		submit.rememberClickStrategy(ClickStrategy.JAVASCRIPT);
+		assertNull("Expecting a javascript click to forget the remembered strategy.", submit.getRememberedClickStrategy());
+	}
+
+	@Test
+	public void nothingIsRememberedWhenMemoryIsOff() {
+		Configuration.update("clickStrategyMemory", "none");
+		var submit = element("Submit Button");
+		submit.rememberClickStrategy(ClickStrategy.HOVER);
+		assertNull(submit.getRememberedClickStrategy());
+	}
+}
@@ -0,0 +1,13 @@
+package com.dougnoel.sentinel.elements;
+
+import java.util.Map;
+
+/**
+ * An element type that is not registered, so that ElementFactoryTests can check it is found in the project.
+ */
+public class ElementFactoryTestElement extends Element {
+
+	public ElementFactoryTestElement(String elementName, Map<String, String> selectors) {
+		super("ElementFactoryTestElement", elementName, selectors);
+	}
+}
@@ -0,0 +1,83 @@
+package com.dougnoel.sentinel.elements;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.junit.Test;
+
+import com.dougnoel.sentinel.elements.dropdowns.MaterialUISelect;
+import com.dougnoel.sentinel.elements.dropdowns.SelectElement;
+import com.dougnoel.sentinel.elements.tables.NGXDataTable;
+import com.dougnoel.sentinel.elements.tables.Table;
+
+public class ElementFactoryTests {
+	private static final Map<String, String> SELECTORS = Map.of("id", "results");
+
+	/**
+	 * Registered through the META-INF/services file in the test resources.
+	 */
+	public static class TestElementTypes implements ElementTypeProvider {
+		@Override
+		public Map<String, BiFunction<String, Map<String, String>, Element>> elementTypes() {
+			return Map.of("ProvidedElement", ProvidedElement::new);
+		}
+	}
+
+	public static class ProvidedElement extends Element {
+		public ProvidedElement(String elementName, Map<String, String> selectors) {
+			super("ProvidedElement", elementName, selectors);
+		}
+	}
+
+	@Test
+	public void builtInElementTypesAreRegistered() {
+		assertEquals(Table.class, ElementFactory.createElement("Table", "Results", SELECTORS).getClass());
+		assertEquals(NGXDataTable.class, ElementFactory.createElement("NGXDataTable", "Results", SELECTORS).getClass());
+		assertEquals(SelectElement.class, ElementFactory.createElement("SelectElement", "Results", SELECTORS).getClass());
+		assertEquals(MaterialUISelect.class, ElementFactory.createElement("MaterialUISelect", "Results", SELECTORS).getClass());
+		assertEquals(Textbox.class, ElementFactory.createElement("Textbox", "Results", SELECTORS).getClass());
+	}
+
+	@Test
+	public void elementTypesAreMatchedIgnoringCase() {
+		assertEquals(NGXDataTable.class, ElementFactory.createElement("ngxdatatable", "Results", SELECTORS).getClass());
+	}
+
+	@Test
+	public void registeredElementTypeIsUsed() {
+		ElementFactory.registerElementType("RegisteredElement", ProvidedElement::new);
+		var element = ElementFactory.createElement("registeredelement", "Results", SELECTORS);
+		assertEquals(ProvidedElement.class, element.getClass());
+		assertEquals("Results", element.getName());
+	}
+
+	@Test
+	public void elementTypeProviderIsLoaded() {
+		assertEquals(ProvidedElement.class, ElementFactory.createElement("ProvidedElement", "Results", SELECTORS).getClass());
+	}
+
+	@Test
+	public void unregisteredElementTypeIsFoundInTheProject() {
+		assertEquals(ElementFactoryTestElement.class, ElementFactory.createElement("ElementFactoryTestElement", "Results", SELECTORS).getClass());
+	}
+
+	@Test
+	public void missingElementTypeIsCreatedAsAnElement() {
+		assertEquals(Element.class, ElementFactory.createElement("NoSuchElementType", "Results", SELECTORS).getClass());
+	}
+
+	@Test
+	public void boundConstructorCreatesTheElement() {
+		var constructor = ElementFactory.bindConstructor(ElementFactoryTestElement.class);
+		var element = constructor.apply("Results", SELECTORS);
+		assertEquals(ElementFactoryTestElement.class, element.getClass());
+		assertEquals("Results", element.getName());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void classThatIsNotAnElementCannotBeBound() {
+		ElementFactory.bindConstructor(String.class);
+	}
+}
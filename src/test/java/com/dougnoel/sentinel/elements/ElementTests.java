@@ -55,6 +55,24 @@ public class ElementTests {
         assertTrue("Expecting element to have attribute.", getElement("Middle Name Field").hasAttribute("readonly"));
     }
 
+    @Test
+    public void snapshotOfReadonlyElement() {
+        BaseSteps.navigateToPage("TextboxPage");
+        var state = getElement("Middle Name Field").snapshot("readonly");
+        assertTrue("Expecting the snapshot to show the element is read only: " + state, state.isReadOnly());
+        Assert.assertEquals("Expecting the snapshot to include the readonly attribute: " + state, "true", state.getAttribute("readonly"));
+    }
+
+    @Test
+    public void snapshotOfEditableElement() {
+        BaseSteps.navigateToPage("TextboxPage");
+        var element = getElement("Last Name Field");
+        var state = element.snapshot("readonly");
+        assertFalse("Expecting the snapshot to show the element is not read only: " + state, state.isReadOnly());
+        Assert.assertNull("Expecting the snapshot to leave out the readonly attribute: " + state, state.getAttribute("readonly"));
+        Assert.assertEquals("Expecting the snapshot to match WebElement.getAttribute.", element.getAttribute("readonly"), state.getAttribute("readonly"));
+    }
+
     @Test
     public void checkNotHaveAttribute() {
         BaseSteps.navigateToPage("TextboxPage");
@@ -0,0 +1,76 @@
+package com.dougnoel.sentinel.elements;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.dougnoel.sentinel.enums.SelectorType;
+
+public class SelectorStatisticsTests {
+	private static final String PAGE_NAME = "PageWithNoSelectorStatisticsFile";
+	private static final String ELEMENT_NAME = "Submit Button";
+
+	@After
+	public void cleanUpBetweenTests() {
+		SelectorStatistics.clear();
+	}
+
+	private static Map<SelectorType, String> selectors() {
+		Map<SelectorType, String> selectors = new EnumMap<>(SelectorType.class);
+		selectors.put(SelectorType.CSS, "#submit");
+		selectors.put(SelectorType.ID, "submit");
+		selectors.put(SelectorType.XPATH, "//button");
+		return selectors;
+	}
+
+	@Test
+	public void selectorsWithNoHistoryKeepTheirOrder() {
+		var ordered = SelectorStatistics.order(PAGE_NAME, ELEMENT_NAME, selectors());
+		assertEquals(SelectorType.CSS, ordered.get(0).getKey());
+		assertEquals(SelectorType.ID, ordered.get(1).getKey());
+		assertEquals(SelectorType.XPATH, ordered.get(2).getKey());
+	}
+
+	@Test
+	public void winningSelectorIsTriedFirst() {
+		List<SelectorType> tried = List.of(SelectorType.CSS, SelectorType.ID, SelectorType.XPATH);
+		SelectorStatistics.record(PAGE_NAME, ELEMENT_NAME, tried, 2);
+		var ordered = SelectorStatistics.order(PAGE_NAME, ELEMENT_NAME, selectors());
+		assertEquals("The selector that found the element is tried first.", SelectorType.XPATH, ordered.get(0).getKey());
+		assertEquals("Selectors that missed are tried last.", SelectorType.ID, ordered.get(2).getKey());
+	}
+
+	@Test
+	public void selectorsThatNeverMatchAreReported() {
+		List<SelectorType> tried = List.of(SelectorType.CSS, SelectorType.ID);
+		for (int i = 0; i < 10; i++)
+			SelectorStatistics.record(PAGE_NAME, ELEMENT_NAME, tried, 1);
+		var report = SelectorStatistics.report();
+		assertEquals("Only the selector that always misses is reported: " + report, 1, report.size());
+		assertTrue(report.get(0).contains("CSS selector of the Submit Button element"));
+	}
+
+	@Test
+	public void statisticsSurviveBeingWrittenAndRead() throws IOException {
+		var file = Files.createTempFile("SelectorStatisticsTests", ".selectorstats");
+		try {
+			var page = SelectorStatistics.read(file);
+			page.counts(ELEMENT_NAME, SelectorType.ID).hits.set(7);
+			page.counts(ELEMENT_NAME, SelectorType.CSS).misses.set(3);
+			SelectorStatistics.write(page);
+
+			var reread = SelectorStatistics.read(file);
+			assertEquals(7, reread.counts(ELEMENT_NAME, SelectorType.ID).hits.get());
+			assertEquals(3, reread.counts(ELEMENT_NAME, SelectorType.CSS).misses.get());
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
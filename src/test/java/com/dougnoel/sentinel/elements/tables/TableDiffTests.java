@@ -0,0 +1,77 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.openqa.selenium.NoSuchElementException;
+
+public class TableDiffTests {
+	private static final List<String> HEADERS = List.of("Id", "Name", "Status");
+	private static final List<List<String>> ROWS = List.of(
+			List.of("1", "Ann", "Open"),
+			List.of("2", "Bob", "Open"),
+			List.of("3", "Cat", "Closed"));
+
+	private static TableFingerprint fingerprint(List<String> headers, List<List<String>> rows, String keyColumn) {
+		return TableFingerprint.of(new TableSnapshot(headers, rows), keyColumn, false);
+	}
+
+	@Test
+	public void sameTablesHaveNoDifferences() {
+		var diff = new TableDiff(fingerprint(HEADERS, ROWS, null), fingerprint(HEADERS, ROWS, null));
+		assertTrue("Expecting identical tables to have no differences.", diff.isEmpty());
+		assertEquals("No differences.", diff.toString());
+	}
+
+	@Test
+	public void rowsAddedAndRemovedAreFoundByHash() {
+		var after = List.of(ROWS.get(0), ROWS.get(2), List.of("4", "Dan", "Open"));
+		var diff = new TableDiff(fingerprint(HEADERS, ROWS, null), fingerprint(HEADERS, after, null));
+		assertEquals(List.of(2), diff.getAddedRows());
+		assertEquals(List.of(1), diff.getRemovedRows());
+		assertTrue("Expecting no changed rows without a key column.", diff.getChangedRows().isEmpty());
+	}
+
+	@Test
+	public void changedRowsAreFoundByKey() {
+		var after = List.of(ROWS.get(0), List.of("2", "Bob", "Closed"), ROWS.get(2));
+		var diff = new TableDiff(fingerprint(HEADERS, ROWS, "Id"), fingerprint(HEADERS, after, "Id"));
+		assertEquals(List.of(1), diff.getChangedRows());
+		assertTrue("Expecting no added rows.", diff.getAddedRows().isEmpty());
+		assertTrue("Expecting no removed rows.", diff.getRemovedRows().isEmpty());
+		assertEquals("1 row changed: row 2 (Id: 2).", diff.toString());
+	}
+
+	@Test
+	public void sortedRowsOnlyChangeOrder() {
+		var after = List.of(ROWS.get(2), ROWS.get(1), ROWS.get(0));
+		var diff = new TableDiff(fingerprint(HEADERS, ROWS, null), fingerprint(HEADERS, after, null));
+		assertFalse("Expecting a sorted table to be different.", diff.isEmpty());
+		assertTrue("Expecting only the order to change.", diff.orderChanged());
+	}
+
+	@Test
+	public void movingTextBetweenCellsChangesTheRowHash() {
+		assertNotEquals(TableFingerprint.hash(List.of("ab", "c")), TableFingerprint.hash(List.of("a", "bc")));
+	}
+
+	@Test
+	public void headerChangesAreReported() {
+		var diff = new TableDiff(fingerprint(HEADERS, ROWS, null), fingerprint(List.of("Id", "Name", "State"), ROWS, null));
+		assertTrue("Expecting the header change to be reported.", diff.headersChanged());
+	}
+
+	@Test
+	public void fullDataIsOnlyKeptWhenAskedFor() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		assertFalse(TableFingerprint.of(snapshot, null, false).hasData());
+		assertEquals(ROWS.get(1), TableFingerprint.of(snapshot, null, true).getRow(1));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void missingKeyColumnIsRejected() {
+		fingerprint(HEADERS, ROWS, "Zip");
+	}
+}
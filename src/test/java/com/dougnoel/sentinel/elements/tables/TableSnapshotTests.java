@@ -0,0 +1,117 @@
+package com.dougnoel.sentinel.elements.tables;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TableSnapshotTests {
+	private static final List<String> HEADERS = List.of("Name", "Age", "City");
+	private static final List<List<String>> ROWS = List.of(
+			List.of("Ann", "31", "Boston"),
+			List.of("Bob", "27", "Denver"),
+			List.of("Cat", "45"));
+
+	@Test
+	public void findColumnIndexByHeader() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		assertEquals("Expecting the Age column to be the second column.", 1, snapshot.getColumnIndex("Age"));
+		assertEquals("Expecting a missing column to return -1.", -1, snapshot.getColumnIndex("Zip"));
+	}
+
+	@Test
+	public void repeatedHeaderUsesTheLastColumn() {
+		var snapshot = new TableSnapshot(List.of("", "Name", ""), List.of(List.of("on", "Ann", "Edit"), List.of("off", "Bob", "Delete")));
+		assertEquals("Expecting the last blank header to be used.", 2, snapshot.getColumnIndex(""));
+		assertEquals(List.of("Edit", "Delete"), snapshot.getColumn(""));
+	}
+
+	@Test
+	public void getColumnByHeader() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		assertEquals(List.of("Ann", "Bob", "Cat"), snapshot.getColumn("Name"));
+		assertNull("Expecting null for a column that does not exist.", snapshot.getColumn("Zip"));
+	}
+
+	@Test
+	public void getColumnSkipsMissingCells() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		assertEquals(List.of("Boston", "Denver"), snapshot.getColumn("City"));
+	}
+
+	@Test
+	public void getRowsMatchesInput() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		assertEquals(3, snapshot.getNumberOfRows());
+		assertEquals(ROWS, snapshot.getRows());
+	}
+
+	@Test
+	public void snapshotsWithSameDataAreEqual() {
+		assertEquals(new TableSnapshot(HEADERS, ROWS), new TableSnapshot(HEADERS, ROWS));
+		assertNotEquals(new TableSnapshot(HEADERS, ROWS), new TableSnapshot(HEADERS, ROWS.subList(0, 2)));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void columnsCannotBeModified() {
+		new TableSnapshot(HEADERS, ROWS).getColumn("Name").set(0, "Dan");
+	}
+
+	@Test
+	public void findDuplicateRowsInOneColumn() {
+		var snapshot = new TableSnapshot(HEADERS, List.of(
+				List.of("Ann", "31", "Boston"),
+				List.of("Bob", "27", "Denver"),
+				List.of("Ann", "45", "Denver"),
+				List.of("Ann", "31", "Austin")));
+		assertEquals(List.of(List.of(0, 2, 3)), snapshot.findDuplicateRows(0));
+		assertEquals(List.of(List.of(1, 2)), snapshot.findDuplicateRows(2));
+	}
+
+	@Test
+	public void findDuplicateRowsAcrossColumns() {
+		var snapshot = new TableSnapshot(HEADERS, List.of(
+				List.of("Ann", "31", "Boston"),
+				List.of("Ann", "45", "Boston"),
+				List.of("Ann", "31", "Austin"),
+				List.of("Ann", "31", "Boston")));
+		assertEquals(List.of(List.of(0, 3)), snapshot.findDuplicateRows(0, 1, 2));
+		assertEquals(List.of(List.of(0, 2, 3)), snapshot.findDuplicateRows(0, 1));
+	}
+
+	@Test
+	public void uniqueRowsHaveNoDuplicates() {
+		var snapshot = new TableSnapshot(List.of("A", "B"), List.of(List.of("ab", "c"), List.of("a", "bc")));
+		assertTrue("Expecting cells to be compared one at a time.", snapshot.findDuplicateRows(0, 1).isEmpty());
+		assertTrue("Expecting rows missing a cell to be skipped.", new TableSnapshot(HEADERS, ROWS).findDuplicateRows(2).isEmpty());
+	}
+
+	@Test
+	public void mergeChangedRows() {
+		var snapshot = new TableSnapshot(HEADERS, ROWS);
+		var merged = new TableSnapshot(HEADERS, snapshot.mergeRows(Arrays.asList(
+				null,
+				List.of("Bob", "28", "Denver"),
+				null,
+				List.of("Dan", "52", "Austin"))));
+		assertEquals(List.of(
+				List.of("Ann", "31", "Boston"),
+				List.of("Bob", "28", "Denver"),
+				List.of("Cat", "45"),
+				List.of("Dan", "52", "Austin")), merged.getRows());
+		assertEquals("Expecting the original snapshot to be unchanged.", new TableSnapshot(HEADERS, ROWS), snapshot);
+	}
+
+	@Test
+	public void mergeRemovedRows() {
+		var merged = new TableSnapshot(HEADERS, new TableSnapshot(HEADERS, ROWS).mergeRows(Arrays.asList(null, null)));
+		assertEquals(ROWS.subList(0, 2), merged.getRows());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectUnchangedRowThatWasNotRead() {
+		new TableSnapshot(HEADERS, ROWS).mergeRows(Arrays.asList(null, null, null, null));
+	}
+}
@@ -0,0 +1,66 @@
+package com.dougnoel.sentinel.math;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class NumericColumnTests {
+    @Test
+    public void parseUsFormattedNumbers() {
+        var column = NumericColumn.parse(List.of("$1,234.50", "(12.25)", "42%", " 7 ", "\u22123"), Locale.US);
+        assertArrayEquals(new double[] {1234.5, -12.25, 42, 7, -3}, column.toDoubleArray(), 0);
+    }
+
+    @Test
+    public void parseGermanFormattedNumbers() {
+        var column = NumericColumn.parse(List.of("1.234,50 \u20ac", "0,5"), Locale.GERMANY);
+        assertArrayEquals(new double[] {1234.5, 0.5}, column.toDoubleArray(), 0);
+    }
+
+    @Test
+    public void parseFrenchFormattedNumbers() {
+        var column = NumericColumn.parse(List.of("1\u202f234,5", "1\u00a0000"), Locale.FRANCE);
+        assertArrayEquals(new double[] {1234.5, 1000}, column.toDoubleArray(), 0);
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void rejectText() {
+        NumericColumn.parse(List.of("1", "N/A"), Locale.US);
+    }
+
+    @Test
+    public void compareAllValues() {
+        var column = NumericColumn.parse(List.of("1", "2", "3"), Locale.US);
+        assertTrue(column.allMatch("less than", 4));
+        assertFalse(column.allMatch("greater than", 1));
+        assertTrue(column.allBetween(1, 3));
+        assertFalse(column.allBetween(2, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectUnknownComparison() {
+        NumericColumn.parse(List.of("1"), Locale.US).allMatch("about", 1);
+    }
+
+    @Test
+    public void sumDecimalAmounts() {
+        var column = NumericColumn.parse(List.of("0.10", "0.20", "0.30"), Locale.US);
+        assertTrue(column.sumEquals(0.6));
+        assertFalse(column.sumEquals(0.61));
+        assertEquals(0.1, column.min(), 0);
+        assertEquals(0.3, column.max(), 0);
+    }
+
+    @Test
+    public void convertWholeNumbers() {
+        assertArrayEquals(new long[] {1, -2}, NumericColumn.parse(List.of("1", "-2"), Locale.US).toLongArray());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void rejectFractionsAsWholeNumbers() {
+        NumericColumn.parse(List.of("1.5"), Locale.US).toLongArray();
+    }
+}
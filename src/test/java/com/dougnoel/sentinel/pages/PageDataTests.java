@@ -2,11 +2,16 @@ package com.dougnoel.sentinel.pages;
 
 import static com.dougnoel.sentinel.elements.ElementFunctions.getElement;
 
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Test;
 import org.openqa.selenium.NoSuchElementException;
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.configurations.YAMLDataCache;
 import com.dougnoel.sentinel.webdrivers.Driver;
 import com.dougnoel.sentinel.exceptions.FileException;
 
@@ -49,6 +54,12 @@ public class PageDataTests {
 		Assert.assertNotNull("Expected text to be male when the include list is empty.", Configuration.getElement(ELEMENT_NAME, "PageWithBlankInclude"));
 	}
 	
+	@Test
+	public void validateIncludeLoopIsIgnored() {
+		Assert.assertNotNull("Expected elements from an included page to be found when the includes form a loop.", Configuration.findElement("female_radio_button", "PageWithIncludeLoop"));
+		Assert.assertNull("Expected an element that is not defined in any included page to be missing.", Configuration.findElement("other_radio_button", "PageWithIncludeLoop"));
+	}
+	
 	@Test
 	public void validateTestdataExistsInYaml() {
 		PageManager.setPage("PageWithTestdata");
@@ -66,5 +77,23 @@ public class PageDataTests {
 		PageManager.setPage("WebAndExe");
 		getElement("generic");
 	}
+
+	@Test
+	public void pageDataLoadedFromTheCacheMatchesTheYaml() {
+		File pageObject = Configuration.findPageObjectFilePath("CorrectPageObject");
+		YAMLDataCache.clear(pageObject, PageData.class);
+		var parses = new AtomicInteger();
+		Function<File, PageData> parser = file -> {
+			parses.incrementAndGet();
+			return PageData.parseYaml(file);
+		};
+
+		PageData parsed = YAMLDataCache.load(pageObject, PageData.class, parser);
+		PageData cached = YAMLDataCache.load(pageObject, PageData.class, parser);
+		Assert.assertNotNull("Expected the page object to contain elements.", parsed.elements);
+		Assert.assertEquals("Expected only the first load to parse the file.", 1, parses.get());
+		Assert.assertNotSame("Expected the second load to be read from the cache.", parsed, cached);
+		Assert.assertEquals("Expected the cached page object to contain the same elements.", parsed.elements, cached.elements);
+	}
 	
 }
@@ -17,4 +17,18 @@ public class AlphaNumComparatorTest {
     	assertEquals("String should be sorted correctly.", "1 2 10 EctoMorph6 EctoMorph7 EctoMorph62 dazzle1 dazzle2 dazzle2.7 dazzle2.10 dazzle10", testOutput);
 	}
 
+	@Test
+	public void isSortedAscendingTest() {
+		List<String> values = Arrays.asList("1", "2", "10", "EctoMorph6", "EctoMorph7", "EctoMorph62", "dazzle1", "dazzle2", "dazzle2.7", "dazzle2.10", "dazzle10");
+		assertTrue("Values should be sorted in ascending order.", new AlphanumComparator().isSorted(values, true));
+		assertFalse("Values should not be sorted in descending order.", new AlphanumComparator().isSorted(values, false));
+	}
+
+	@Test
+	public void isSortedDescendingTest() {
+		List<String> values = Arrays.asList("item10", "item9", "item9", "item1");
+		assertTrue("Values should be sorted in descending order.", new AlphanumComparator().isSorted(values, false));
+		assertFalse("Values should not be sorted in ascending order.", new AlphanumComparator().isSorted(values, true));
+	}
+
 }
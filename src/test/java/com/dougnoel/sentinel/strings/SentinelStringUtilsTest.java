@@ -4,6 +4,8 @@ import static org.junit.Assert.*;
 
 import org.junit.Test;
 
+import com.dougnoel.sentinel.configurations.Configuration;
+
 public class SentinelStringUtilsTest {
 
 	@Test
@@ -50,4 +52,18 @@ public class SentinelStringUtilsTest {
 	public void failToParseLeadingInt(){
 		SentinelStringUtils.parseOrdinal("rd123");
 	}
+
+	@Test
+	public void replaceStoredVariablesInJson() {
+		Configuration.update("pet_id", "10");
+		Configuration.update("pet_name", "puppy");
+		var body = "{\n  \"id\": {pet_id},\n  \"name\": \"{pet_name}\",\n  \"tag\": \"{pet_tag}\",\n  \"twin\": {pet_id}\n}";
+		var result = SentinelStringUtils.replaceStoredVariables(body);
+		assertEquals("Stored variables should be replaced and unknown variables left intact.",
+				"{\n  \"id\": 10,\n  \"name\": \"puppy\",\n  \"tag\": \"{pet_tag}\",\n  \"twin\": 10\n}", result);
+		Configuration.update("pet_id", "11");
+		assertTrue("Variables should use the current value when the same text is used again.", SentinelStringUtils.replaceStoredVariables(body).contains("\"twin\": 11"));
+		Configuration.clear("pet_id");
+		Configuration.clear("pet_name");
+	}
 }
@@ -5,6 +5,8 @@ import static org.junit.Assert.*;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
 
 import org.junit.After;
 import org.junit.Test;
@@ -75,4 +77,31 @@ public class DownloadManagerTests {
 	public void verifyUrlStreamDownloadFromWebCannotOpenHtmlAsPdf() throws IOException {
 		DownloadManager.verifyPDFContent(new URL("https://dougnoel.github.io/sentinel/test/radiobutton.html"), "This is page one.", 1, 1);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the download directory of the current thread once the other thread is running as well, so that the two are never the same thread.
+	 */
+	private static String getDownloadDirectory(CyclicBarrier bothRunning) throws Exception {
+		bothRunning.await();
+		return DownloadManager.getDownloadDirectory();
+	}
+
+	@Test
+	public void eachThreadHasItsOwnDownloadDirectory() throws Exception {
+		var bothRunning = new CyclicBarrier(2);
+		var threads = Executors.newFixedThreadPool(2);
+		try {
+			var first = threads.submit(() -> getDownloadDirectory(bothRunning));
+			var second = threads.submit(() -> getDownloadDirectory(bothRunning));
+			String configuredDirectory = DownloadManager.createDownloadDirectory();
+
+			assertNotEquals("Expecting each thread to download to its own directory.", first.get(), second.get());
+			assertTrue("Expecting the first thread's download directory to be in the configured one.", first.get().startsWith(configuredDirectory));
+			assertTrue("Expecting the second thread's download directory to be in the configured one.", second.get().startsWith(configuredDirectory));
+			assertTrue("Expecting the first thread's download directory to exist.", new File(first.get()).isDirectory());
+			assertTrue("Expecting the second thread's download directory to exist.", new File(second.get()).isDirectory());
+		} finally {
+			threads.shutdown();
+		}
+	}
+}
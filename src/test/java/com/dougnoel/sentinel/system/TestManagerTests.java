@@ -0,0 +1,55 @@
+package com.dougnoel.sentinel.system;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+public class TestManagerTests {
+
+	private static YAMLObject testObject(String name) {
+		return new YAMLObject(name) {};
+	}
+
+	/**
+	 * Sets an active test object, waits until the other thread has set its own, then returns the object this thread sees.
+	 */
+	private static YAMLObject setAndGet(YAMLObject testObject, CyclicBarrier bothSet) {
+		TestManager.setActiveTestObject(testObject);
+		try {
+			bothSet.await();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		var activeTestObject = TestManager.getActiveTestObject();
+		TestManager.clear();
+		return activeTestObject;
+	}
+
+	@Test
+	public void eachThreadHasItsOwnActiveTestObject() throws Exception {
+		var bothSet = new CyclicBarrier(2);
+		var firstObject = testObject("FirstPage");
+		var secondObject = testObject("SecondPage");
+
+		var threads = Executors.newFixedThreadPool(2);
+		try {
+			var first = threads.submit(() -> setAndGet(firstObject, bothSet));
+			var second = threads.submit(() -> setAndGet(secondObject, bothSet));
+
+			assertSame("Expecting the first thread to keep its own test object.", firstObject, first.get());
+			assertSame("Expecting the second thread to keep its own test object.", secondObject, second.get());
+		} finally {
+			threads.shutdown();
+		}
+	}
+
+	@Test
+	public void clearForgetsTheActiveTestObject() {
+		TestManager.setActiveTestObject(testObject("TextboxPage"));
+		TestManager.clear();
+		assertNull("Expecting no active test object after clearing.", TestManager.getActiveTestObject());
+	}
+}
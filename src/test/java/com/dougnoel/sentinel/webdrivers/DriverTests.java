@@ -1,6 +1,10 @@
 package com.dougnoel.sentinel.webdrivers;
 
-import static org.junit.Assert.assertSame;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+
 import org.junit.Test;
 import org.openqa.selenium.JavascriptExecutor;
 import com.dougnoel.sentinel.pages.PageManager;
@@ -15,4 +19,69 @@ public class DriverTests {
 		assertSame("Expecting window to be maximized.", "false", js.executeScript("return document.hidden").toString());
 		Driver.quitAllDrivers();
 	}
+
+	private static void await(CyclicBarrier barrier) {
+		try {
+			barrier.await();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Records the given number of page changes, waits until the other thread has recorded its own, then returns how many changes this thread sees.
+	 */
+	private static int changePages(int pageChanges, CyclicBarrier bothChanged) {
+		int start = Driver.getPageChangeCount();
+		for (var i = 0; i < pageChanges; i++)
+			Driver.pageChanged();
+		await(bothChanged);
+		return Driver.getPageChangeCount() - start;
+	}
+
+	@Test
+	public void eachThreadCountsItsOwnPageChanges() throws Exception {
+		var bothChanged = new CyclicBarrier(2);
+		var threads = Executors.newFixedThreadPool(2);
+		try {
+			var first = threads.submit(() -> changePages(1, bothChanged));
+			var second = threads.submit(() -> changePages(3, bothChanged));
+
+			assertEquals("Expecting the first thread to count only its own page changes.", 1, first.get().intValue());
+			assertEquals("Expecting the second thread to count only its own page changes.", 3, second.get().intValue());
+		} finally {
+			threads.shutdown();
+		}
+	}
+
+	@Test
+	public void quitDriversLeavesOtherThreadsDriversOpen() throws Exception {
+		var bothOpened = new CyclicBarrier(2);
+		var firstQuit = new CyclicBarrier(2);
+		var threads = Executors.newFixedThreadPool(2);
+		try {
+			var first = threads.submit(() -> {
+				PageManager.setPage("MockTestPage");
+				Driver.getWebDriver();
+				await(bothOpened);
+				Driver.quitDrivers();
+				await(firstQuit);
+				return WebDriverFactory.exists();
+			});
+			var second = threads.submit(() -> {
+				PageManager.setPage("MockTestPage");
+				var driver = Driver.getWebDriver();
+				await(bothOpened);
+				await(firstQuit);
+				driver.getWindowHandle();
+				return WebDriverFactory.exists();
+			});
+
+			assertFalse("Expecting the first thread's driver to be quit.", first.get());
+			assertTrue("Expecting the second thread's driver to still be open.", second.get());
+		} finally {
+			threads.shutdown();
+			Driver.quitAllDrivers();
+		}
+	}
 }
@@ -5,6 +5,9 @@ import com.dougnoel.sentinel.pages.PageManager;
 import static org.junit.Assume.assumeFalse;
 import static org.junit.Assume.assumeTrue;
 
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Test;
@@ -142,4 +145,28 @@ public class WebDriverFactoryTest {
 		WebDriver driver = WebDriverFactory.instantiateWebDriver();
 		Assert.assertNotNull(driver);
 	}
+
+	/**
+	 * Creates a driver, waits until the other thread has created its own, then returns the driver this thread sees.
+	 */
+	private static WebDriver createAndGet(CyclicBarrier bothCreated) throws Exception {
+		WebDriverFactory.getWebDriver();
+		bothCreated.await();
+		return WebDriverFactory.getWebDriver();
+	}
+
+	@Test
+	public void eachThreadHasItsOwnDriver() throws Exception {
+		var bothCreated = new CyclicBarrier(2);
+		var threads = Executors.newFixedThreadPool(2);
+		try {
+			var first = threads.submit(() -> createAndGet(bothCreated));
+			var second = threads.submit(() -> createAndGet(bothCreated));
+
+			Assert.assertNotSame("Expecting each thread to create its own driver.", first.get(), second.get());
+			Assert.assertFalse("Expecting no driver for a thread that has not asked for one.", WebDriverFactory.exists());
+		} finally {
+			threads.shutdown();
+		}
+	}
 }
@@ -96,4 +96,12 @@ Feature: Verify and Edit CSVs
     Then I verify the name column of the csv contains the text change original final name
       And I verify the name column of the csv contains the text change original first name
       And I verify the name column of the csv does not contain the same text used for the originalFinalName
-      And I verify the name column of the csv does not contain the same text used for the originalFirstName
\ No newline at end of file
+      And I verify the name column of the csv does not contain the same text used for the originalFirstName
+
+  @386B @csv
+  Scenario: Compare the numbers in a CSV file column
+    When I open src/test/resources/csv/test_1header.csv as a CSV file with 1 header row
+    Then I verify all values in the age column of the csv file are less than 9
+      And I verify all values in the age column of the CSV file are greater than 2
+      And I verify all values in the 1st column of the csv file are less than 5
+      And I verify all values in the 1st column of the csv file are greater than 0
@@ -596,4 +596,14 @@ Feature: Math Verification Tests
     Then I verify the value of the truncated text div is .3005 greater than the old value of the raw text div truncated to 3 decimal places
       And I verify the value of the truncated value input is 0.3005 greater than the old value of the raw text div truncated to 3 decimal places
       And I verify the truncated text div has the text "-2.199"
-      And I verify the truncated value input with the attribute value has the value -2.199
\ No newline at end of file
+      And I verify the truncated value input with the attribute value has the value -2.199
+
+  @491
+  Scenario: Verifies the numbers in a table column are in a range and add up to a total
+    Given I am on the Table Page
+    When I find the 1st row in the Example Table and enter the text 5 in the comment box
+      And I find the 2nd row in the Example Table and enter the text .012 in the comment box
+      And I find the 3rd row in the Example Table and enter the text 3.141 in the comment box
+    Then I verify all values in the Comment column in the Example Table are between 0 and 6.1
+      And I verify all values in the Comment column in the Example Table are between .012 and 5
+      And I verify the values in the Comment column in the Example Table add up to 8.153
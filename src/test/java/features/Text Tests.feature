@@ -77,4 +77,17 @@ Feature: Text Verification Tests
       And I note the class attribute of the send button
     Then I verify the class attribute of the send button matches the send button
       And I verify the class attribute of the send button does not match the example div
-      And I verify the class attribute of the example div matches the example div
\ No newline at end of file
+      And I verify the class attribute of the example div matches the example div
+
+  @text
+  Scenario: I fill in several fields at once and verify the text entered
+    Given I am on the Guinea Pig Page
+    When I fill in the fields with the values:
+      | Email Text Area    | bob@example.com |
+      | Comments Text Area | Hello Bob       |
+      | Example Textbox    | Bob Smith       |
+    Then I wait until the Email Text Area contains the text entered for the Email Text Area
+      And I wait until the Comments Text Area contains the text entered for the Comments Text Area
+      And I verify the Example Textbox with the attribute value has the value Bob Smith
+    When I click the Send Button
+    Then I wait until the Your Comments Span contains the text entered for the Comments Text Area
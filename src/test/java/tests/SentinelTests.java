@@ -7,6 +7,7 @@ import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 
 import com.dougnoel.sentinel.configurations.Configuration;
+import com.dougnoel.sentinel.elements.SelectorStatistics;
 import com.dougnoel.sentinel.system.SentinelScreenRecorder;
 import com.dougnoel.sentinel.webdrivers.Driver;
 import io.cucumber.junit.Cucumber;
@@ -26,6 +27,8 @@ public class SentinelTests {
     @BeforeClass
     public static void setUpBeforeClass() throws Exception {
     	log.info("JUnit version is: {}", Version.id());
+        if(Configuration.toBoolean("preloadPageObjects"))
+            Configuration.preloadYAMLData();
         if(Configuration.toBoolean("recordTests"))
             SentinelScreenRecorder.startRecording();
     }
@@ -39,6 +42,8 @@ public class SentinelTests {
         
         if(Configuration.toBoolean("recordTests"))
             SentinelScreenRecorder.stopRecording();
+
+        SelectorStatistics.save();
         
         if (!Configuration.toBoolean("leaveBrowserOpen")) {
         	Driver.quitAllDrivers();